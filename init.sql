@@ -1,7 +1,7 @@
 CREATE TABLE "users" (
     "id" SERIAL PRIMARY KEY,
-    "email" VARCHAR(255) UNIQUE NOT NULL,
-    "nickname" VARCHAR(255) UNIQUE NOT NULL,
+    "email" VARCHAR(255) NOT NULL,
+    "nickname" VARCHAR(255) NOT NULL,
     "createdAt" TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     "updatedAt" TIMESTAMP,
     "isDeleted" BOOLEAN DEFAULT FALSE
@@ -10,12 +10,46 @@ CREATE TABLE "users" (
 CREATE TABLE "bookmarks" (
     "id" SERIAL PRIMARY KEY,
     "userId" INT NOT NULL REFERENCES "users"("id") ON DELETE CASCADE,
-    "storyId" INT NOT NULL,
+    "storyId" BIGINT NOT NULL,
     "imageUrl" VARCHAR(255) NOT NULL,
+    "renditions" JSONB,
+    "contentExcerpt" VARCHAR(100),
+    "authorNickname" VARCHAR(255),
+    "rootId" BIGINT,
+    "snapshotAt" TIMESTAMP,
     "createdAt" TIMESTAMP NOT NULL,
-    "isDeleted" BOOLEAN NOT NULL
+    "isDeleted" BOOLEAN NOT NULL,
+    "deletedAt" TIMESTAMP
     );
 
+-- 탈퇴하지 않은 사용자 사이에서만 이메일 / 닉네임 유일 (탈퇴 후 같은 이메일로 재가입 가능)
+CREATE UNIQUE INDEX "uq_users_email_live" ON "users" ("email") WHERE "isDeleted" = false;
+CREATE UNIQUE INDEX "uq_users_nickname_live" ON "users" ("nickname") WHERE "isDeleted" = false;
+
+-- 북마크 키셋 페이지네이션 (userId별 createdAt, id 내림차순, 삭제되지 않은 행만)
+CREATE INDEX "idx_bookmarks_user_created" ON "bookmarks" ("userId", "createdAt" DESC, "id" DESC) WHERE "isDeleted" = false;
+
+-- 사용자별 같은 스토리 중복 북마크 방지 (일괄 추가 INSERT ... ON CONFLICT)
+-- 삭제 표시된 행을 되살리므로 부분 인덱스가 아닌 전체 행 인덱스
+CREATE UNIQUE INDEX "uq_bookmarks_user_story" ON "bookmarks" ("userId", "storyId");
+
+-- 스토리 변경 시 스냅샷 갱신 / 대사 작업 (storyId 기준, 삭제되지 않은 행만)
+CREATE INDEX "idx_bookmarks_story" ON "bookmarks" ("storyId") WHERE "isDeleted" = false;
+
+-- 보관 기간이 지난 삭제 행 정리
+CREATE INDEX "idx_bookmarks_deleted_at" ON "bookmarks" ("deletedAt") WHERE "isDeleted" = true;
+
+-- 프롬프트 -> 생성 이미지 URL 캐시 (같은 내용의 DALL·E 재호출 방지)
+CREATE TABLE "generated_images" (
+    "promptHash" VARCHAR(64) PRIMARY KEY,
+    "imageUrl" TEXT NOT NULL,
+    "createdAt" TIMESTAMP NOT NULL,
+    "expiresAt" TIMESTAMP NOT NULL
+    );
+
+-- 만료 항목 정리
+CREATE INDEX "idx_generated_images_expires_at" ON "generated_images" ("expiresAt");
+
 INSERT INTO "users" ("email", "nickname", "createdAt", "isDeleted")
 VALUES ('user1@example.com', 'user1', CURRENT_TIMESTAMP, FALSE),
        ('user2@example.com', 'user2', CURRENT_TIMESTAMP, FALSE);
@@ -0,0 +1,51 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// 스토리 읽기 API: MVC(Tomcat, 8080) vs 리액티브(WebFlux + 리액티브 Neo4j, 8081) 비교
+// 두 경로는 같은 데이터 / 같은 캐시를 사용하므로 한 인스턴스에서 번갈아 실행 (REACTIVE_SERVER_ENABLED=true)
+//   k6 run -e TARGET=mvc /scripts/read_path_comparison.js
+//   k6 run -e TARGET=reactive /scripts/read_path_comparison.js
+// 결과 요약은 /scripts/read-path-<TARGET>.json 에 저장 (p95/p99 지연, 처리량, 실패율 비교)
+// -e NDJSON=true 면 목록 응답을 NDJSON 스트림으로 요청 (리액티브 경로만 지원)
+
+const TARGET = __ENV.TARGET || 'mvc';
+const HOST = __ENV.HOST || 'springboot';
+const BASE_URL = TARGET === 'reactive'
+    ? `http://${HOST}:8081/api/v2/reactive/stories`
+    : `http://${HOST}:8080/api/v2/stories`;
+const ROOT_ID = __ENV.ROOT_ID || '1';
+const LEAF_ID = __ENV.LEAF_ID || ROOT_ID;
+const headers = { 'Content-Type': 'application/json' };
+const listHeaders = __ENV.NDJSON === 'true' && TARGET === 'reactive'
+    ? { Accept: 'application/x-ndjson' } : headers;
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },
+                { duration: '1m', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const responses = http.batch([
+        ['GET', BASE_URL, null, { headers, tags: { name: 'rootStories' } }],
+        ['GET', `${BASE_URL}/details/${ROOT_ID}`, null, { headers, tags: { name: 'details' } }],
+        ['GET', `${BASE_URL}/${ROOT_ID}`, null, { headers: listHeaders, tags: { name: 'scenario' } }],
+        ['GET', `${BASE_URL}/branch/${LEAF_ID}`, null, { headers: listHeaders, tags: { name: 'branch' } }],
+    ]);
+    responses.forEach((r) => check(r, { 'status is 200': (res) => res.status === 200 }));
+}
+
+export function handleSummary(data) {
+    return {
+        [`/scripts/read-path-${TARGET}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,64 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// 플랫폼 스레드 vs 가상 스레드 실행 모드 비교 (같은 데이터 / 같은 부하로 두 번 실행)
+// 1) JAVA_VERSION=21 로 이미지 빌드, SPRING_PROFILES_ACTIVE 에 virtual-threads 없이 실행
+//    k6 run -e MODE=platform /scripts/thread_mode_comparison.js
+// 2) SPRING_PROFILES_ACTIVE 에 virtual-threads 추가 후 재시작
+//    k6 run -e MODE=virtual /scripts/thread_mode_comparison.js
+// 결과 요약은 /scripts/thread-mode-<MODE>.json 에 저장 (p95/p99 지연, 처리량, 실패율 비교)
+// 이미지 생성(유료 OpenAI 호출)은 기본 제외, -e IMAGE_JOBS=true 로 포함 (대기열 초과 503 비율 확인)
+
+const BASE_URL = __ENV.BASE_URL || 'http://springboot:8080/api/v2';
+const MODE = __ENV.MODE || 'unknown';
+const ROOT_ID = __ENV.ROOT_ID || '1';
+const headers = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        // Tomcat 기본 스레드 수(200)를 넘는 동시 요청으로 스레드 고갈 여부 확인
+        reads: {
+            executor: 'ramping-vus',
+            exec: 'reads',
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },
+                { duration: '1m', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        ...(__ENV.IMAGE_JOBS === 'true' ? {
+            imageJobs: {
+                executor: 'constant-arrival-rate',
+                exec: 'imageJobs',
+                rate: 5,
+                timeUnit: '1s',
+                duration: '2m',
+                preAllocatedVUs: 50,
+            },
+        } : {}),
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function reads() {
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/stories`, null, { headers, tags: { name: 'rootStories' } }],
+        ['GET', `${BASE_URL}/stories/${ROOT_ID}`, null, { headers, tags: { name: 'scenario' } }],
+        ['GET', `${BASE_URL}/stories/details/${ROOT_ID}`, null, { headers, tags: { name: 'details' } }],
+        ['GET', `${BASE_URL}/stories/${ROOT_ID}/subtree?maxDepth=5`, null, { headers, tags: { name: 'subtree' } }],
+    ]);
+    responses.forEach((r) => check(r, { 'status is 200': (res) => res.status === 200 }));
+}
+
+export function imageJobs() {
+    const res = http.post(`${BASE_URL}/stories/images/jobs`,
+        JSON.stringify({ content: `k6 ${MODE} ${__VU}-${__ITER}` }), { headers, tags: { name: 'imageJob' } });
+    check(res, { 'job accepted or rejected': (r) => r.status === 202 || r.status === 503 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`/scripts/thread-mode-${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,20 @@
+package com.nextpage.backend.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// AsyncCache 로딩 결과 대기 - 로딩 중 발생한 예외(StoryNotFoundException 등)는 감싸지 않고 그대로 전파
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.nextpage.backend.cache;
+
+import com.nextpage.backend.repository.GeneratedImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 프롬프트 -> 생성 이미지 URL 캐시 (DALL·E 호출은 유료이고 수 초가 걸림)
+ * - 영구 캐시: Postgres generated_images 테이블, TTL(image.prompt-cache.ttl) 동안 같은 프롬프트는 바로 반환
+ * - 단일 실행(single-flight): 같은 프롬프트가 생성 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다림 (더블 클릭, 재시도 등)
+ * 지표: image.prompt.cache.requests{result=hit|miss|coalesced}, image.prompt.cache.in.flight
+ */
+@Slf4j
+@Component
+public class ImagePromptCache {
+    private final GeneratedImageRepository generatedImageRepository;
+    private final Duration ttl;
+    private final int purgeBatchSize;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public ImagePromptCache(GeneratedImageRepository generatedImageRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${image.prompt-cache.ttl:30d}") Duration ttl,
+                            @Value("${image.prompt-cache.purge-batch-size:1000}") int purgeBatchSize) {
+        this.generatedImageRepository = generatedImageRepository;
+        this.ttl = ttl;
+        this.purgeBatchSize = purgeBatchSize;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        meterRegistry.gauge("image.prompt.cache.in.flight", inFlight, ConcurrentMap::size);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.prompt.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 - 대소문자 / 유니코드 표기 / 공백 차이는 같은 프롬프트로 취급하고, 생성 조건(모델, 크기)은 키에 포함
+     */
+    public static String keyOf(String model, String size, String content) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((model + "|" + size + "|" + normalized).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM이 SHA-256을 지원해야 함
+        }
+    }
+
+    /**
+     * 저장된 URL이 있으면 반환하고, 없으면 generator로 생성해 저장한다.
+     * 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 generator 결과(또는 예외)를 공유하며, 실패한 결과는 저장하지 않는다.
+     */
+    public String get(String promptHash, Supplier<String> generator) {
+        Optional<String> stored = findStored(promptHash);
+        if (stored.isPresent()) {
+            hits.increment();
+            return stored.get();
+        }
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(promptHash, created);
+        if (running != null) {
+            coalesced.increment();
+            return CacheLoads.join(running);
+        }
+        try {
+            // 조회와 등록 사이에 다른 요청이 생성을 끝내고 저장했을 수 있으므로 한 번 더 확인
+            String imageUrl = findStored(promptHash).orElse(null);
+            if (imageUrl != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                imageUrl = generator.get();
+                store(promptHash, imageUrl);
+            }
+            created.complete(imageUrl);
+            return imageUrl;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(promptHash, created);
+        }
+    }
+
+    // 캐시 저장소 장애는 이미지 생성을 실패시키지 않음 (캐시 없이 매번 생성하는 것과 같아짐)
+    private Optional<String> findStored(String promptHash) {
+        try {
+            return generatedImageRepository.findImageUrl(promptHash, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("이미지 프롬프트 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String promptHash, String imageUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            generatedImageRepository.upsert(promptHash, imageUrl, now, now.plus(ttl));
+        } catch (DataAccessException e) {
+            log.warn("이미지 프롬프트 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 만료된 항목 정리 - 배치마다 별도 트랜잭션
+    @Scheduled(cron = "${image.prompt-cache.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = generatedImageRepository.purgeExpired(now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        log.info("Image prompt cache purge: {} expired entries deleted", total);
+    }
+}
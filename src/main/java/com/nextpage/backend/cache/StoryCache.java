@@ -0,0 +1,124 @@
+package com.nextpage.backend.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.entity.Story;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 스토리 트리 조회 결과를 JVM 내부에 보관하는 캐시.
+ * 이 인스턴스에서 생성한 스토리는 생성 시점(write-through)에 바로 반영한다.
+ * 다른 인스턴스의 스토리 생성, 외부에서의 soft delete는 알 수 없으므로 저장 후 expire-after-write 가 지나면 다시 조회한다.
+ * (인스턴스 간 최대 지연 = expire-after-write, 자주 조회되는 키도 만료되도록 접근 기준이 아닌 저장 기준 만료)
+ * 로딩(Neo4j 조회)은 cacheLoadExecutor에서 실행 - 가상 스레드 모드에서는 캐시 내부 잠금 밖에서 조회해 캐리어 스레드를 점유하지 않음.
+ */
+@Component
+public class StoryCache {
+    private final AsyncCache<Long, StoryDetailsResponseDTO> details; // storyId -> 상세
+    private final AsyncCache<Long, List<ScenarioResponseDTO>> scenarios; // rootId -> 시나리오
+    private final AsyncCache<Long, List<StoryListResponseDTO>> branches; // leafId -> 분기
+
+    public StoryCache(MeterRegistry meterRegistry,
+                      @Qualifier("cacheLoadExecutor") Executor cacheLoadExecutor,
+                      @Value("${story.cache.max-size:10000}") long maxSize,
+                      @Value("${story.cache.expire-after-write:1m}") Duration expireAfterWrite) {
+        this(meterRegistry, cacheLoadExecutor, maxSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    StoryCache(MeterRegistry meterRegistry, Executor cacheLoadExecutor, long maxSize, Duration expireAfterWrite, Ticker ticker) {
+        this.details = build(cacheLoadExecutor, maxSize, expireAfterWrite, ticker);
+        this.scenarios = build(cacheLoadExecutor, maxSize, expireAfterWrite, ticker);
+        this.branches = build(cacheLoadExecutor, maxSize, expireAfterWrite, ticker);
+        CaffeineCacheMetrics.monitor(meterRegistry, details.synchronous(), "story.details");
+        CaffeineCacheMetrics.monitor(meterRegistry, scenarios.synchronous(), "story.scenarios");
+        CaffeineCacheMetrics.monitor(meterRegistry, branches.synchronous(), "story.branches");
+    }
+
+    private static <V> AsyncCache<Long, V> build(Executor executor, long maxSize, Duration expireAfterWrite, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .executor(executor)
+                .ticker(ticker)
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // loader에서 발생한 예외(StoryNotFoundException 등)는 그대로 전파되고 캐시에 저장되지 않음
+    // 같은 키를 동시에 조회하면 로딩은 한 번만 실행되고 나머지는 결과를 기다림
+    public StoryDetailsResponseDTO getDetails(Long storyId, Function<Long, StoryDetailsResponseDTO> loader) {
+        return CacheLoads.join(details.get(storyId, loader));
+    }
+
+    public List<ScenarioResponseDTO> getScenario(Long rootId, Function<Long, List<ScenarioResponseDTO>> loader) {
+        return CacheLoads.join(scenarios.get(rootId, id -> List.copyOf(loader.apply(id))));
+    }
+
+    public List<StoryListResponseDTO> getBranch(Long leafId, Function<Long, List<StoryListResponseDTO>> loader) {
+        return CacheLoads.join(branches.get(leafId, id -> List.copyOf(loader.apply(id))));
+    }
+
+    // 리액티브 조회 경로용 - loader가 반환한 future를 그대로 캐시에 넣어 로딩 중에도 스레드를 점유하지 않음 (캐시는 블로킹 경로와 공유)
+    public CompletableFuture<StoryDetailsResponseDTO> getDetailsAsync(Long storyId,
+                                                                      Function<Long, CompletableFuture<StoryDetailsResponseDTO>> loader) {
+        return details.get(storyId, (id, executor) -> loader.apply(id));
+    }
+
+    public CompletableFuture<List<ScenarioResponseDTO>> getScenarioAsync(Long rootId,
+                                                                         Function<Long, CompletableFuture<List<ScenarioResponseDTO>>> loader) {
+        return scenarios.get(rootId, (id, executor) -> loader.apply(id).thenApply(List::copyOf));
+    }
+
+    public CompletableFuture<List<StoryListResponseDTO>> getBranchAsync(Long leafId,
+                                                                        Function<Long, CompletableFuture<List<StoryListResponseDTO>>> loader) {
+        return branches.get(leafId, (id, executor) -> loader.apply(id).thenApply(List::copyOf));
+    }
+
+    /**
+     * 새 스토리 저장 직후 호출
+     * - 새 스토리의 상세/분기는 바로 채워넣고
+     * - 자식 목록이 바뀐 부모의 상세, 트리가 바뀐 시나리오는 무효화한다.
+     */
+    public void onStoryCreated(Story story) {
+        Story parent = story.getParentId();
+        Long parentId = parent != null ? parent.getId() : null;
+        details.synchronous().put(story.getId(), StoryDetailsResponseDTO.of(story, parentId, List.of(), List.of()));
+        if (parent == null) {
+            branches.synchronous().put(story.getId(), List.of(StoryListResponseDTO.of(story)));
+            return;
+        }
+        // 로딩 중인 항목을 무효화하면 로딩이 끝나도 캐시에 다시 들어가지 않음
+        details.synchronous().invalidate(parentId);
+        List<StoryListResponseDTO> parentBranch = branches.synchronous().getIfPresent(parentId);
+        if (parentBranch != null) {
+            List<StoryListResponseDTO> branch = new ArrayList<>(parentBranch);
+            branch.add(StoryListResponseDTO.of(story));
+            branches.synchronous().put(story.getId(), List.copyOf(branch));
+        }
+        scenarios.synchronous().invalidate(findRoot(parent).getId());
+    }
+
+    // 부모 스토리는 조회 시 상위 관계까지 함께 로딩되므로 추가 쿼리 없이 루트를 찾을 수 있음
+    private Story findRoot(Story story) {
+        Story root = story;
+        while (root.getParentId() != null) {
+            root = root.getParentId();
+        }
+        return root;
+    }
+}
@@ -0,0 +1,50 @@
+package com.nextpage.backend.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nextpage.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * userId -> nickname 캐시. 닉네임 변경 / 회원 탈퇴 시 UserService에서 무효화한다.
+ */
+@Component
+public class UserIdentityCache {
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, String> nicknames;
+
+    public UserIdentityCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Qualifier("cacheLoadExecutor") Executor cacheLoadExecutor,
+                             @Value("${user.identity-cache.max-size:50000}") long maxSize,
+                             @Value("${user.identity-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.nicknames = Caffeine.newBuilder()
+                .executor(cacheLoadExecutor) // 조회(Postgres)를 캐시 내부 잠금 밖에서 실행 (가상 스레드 모드, StoryCache 참고)
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, nicknames.synchronous(), "user.identity");
+    }
+
+    // 존재하지 않는 사용자면 null (캐시되지 않음)
+    public String getNickname(Long userId) {
+        return CacheLoads.join(nicknames.get(userId, id -> userRepository.findNicknameById(id).orElse(null)));
+    }
+
+    public boolean exists(Long userId) {
+        return getNickname(userId) != null;
+    }
+
+    public void invalidate(Long userId) {
+        nicknames.synchronous().invalidate(userId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.nextpage.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+// 플랫폼 스레드 풀 - 가상 스레드 모드(spring.threads.virtual.enabled + Java 21)에서는 VirtualThreadConfig의 실행기로 대체
+// 렌디션 인코딩 풀은 CPU 바운드 작업이라 두 모드 모두 플랫폼 스레드 사용
+@Configuration
+public class AsyncConfig {
+
+    // 이미지 생성(DALL·E 호출 + S3 업로드) 전용 워커 풀 - 요청 스레드(Tomcat)와 분리
+    @Bean(name = "imageTaskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor imageTaskExecutor(@Value("${image.job.pool-size:8}") int poolSize,
+                                                    @Value("${image.job.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity); // 가득 차면 TaskRejectedException
+        executor.setThreadNamePrefix("image-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // StreamingResponseBody / SseEmitter 등 MVC 비동기 응답 처리용 풀 (WebConfig에서 등록)
+    @Bean(name = "mvcAsyncExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(@Value("${web.async.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 8);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
+    }
+
+    // 렌디션 인코딩(CPU 바운드) 전용 풀 - 공용 ForkJoinPool을 점유하지 않도록 분리
+    @Bean(name = "imageEncodingPool", destroyMethod = "shutdown")
+    public ForkJoinPool imageEncodingPool(@Value("${image.renditions.parallelism:4}") int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+
+    // 렌디션 S3 업로드(I/O 바운드) 전용 풀
+    @Bean(name = "imageUploadExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor imageUploadExecutor(@Value("${image.renditions.upload-pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 16);
+        executor.setThreadNamePrefix("image-upload-");
+        return executor;
+    }
+
+    // 이미지 일괄 생성에서 n=1만 허용하는 모델의 DALL·E 병렬 호출 전용 풀 - 블로킹 호출(재시도 포함)이 업로드 풀을 점유하지 않도록 분리
+    // 가득 차면 TaskRejectedException (429, O004)
+    @Bean(name = "openAiFanOutExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor openAiFanOutExecutor(@Value("${openai.image.fan-out-pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("openai-fan-out-");
+        return executor;
+    }
+
+    // 캐시(StoryCache, UserIdentityCache) 로딩 - 호출 스레드에서 바로 실행 (캐시 내부 잠금 안에서 조회)
+    @Bean(name = "cacheLoadExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor cacheLoadExecutor() {
+        return Runnable::run;
+    }
+}
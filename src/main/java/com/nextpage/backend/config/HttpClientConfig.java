@@ -0,0 +1,58 @@
+package com.nextpage.backend.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 클라이언트를 싱글톤으로 생성해 커넥션 풀 / TLS 세션을 재사용한다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    // OpenAI 호출용 WebClient (Reactor Netty 커넥션 풀, HTTP/2 우선)
+    // 풀/연결/TLS 핸드셰이크 지표는 reactor.netty.* 이름으로 Prometheus에 노출됨
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder webClientBuilder,
+                                     @Value("${http.client.openai.max-connections:50}") int maxConnections,
+                                     @Value("${http.client.openai.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+                                     @Value("${http.client.openai.max-idle-time:60s}") Duration maxIdleTime,
+                                     @Value("${http.client.openai.connect-timeout:5s}") Duration connectTimeout,
+                                     @Value("${http.client.openai.response-timeout:60s}") Duration responseTimeout) {
+        ConnectionProvider provider = ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections) // 호스트(remote address)별 최대 연결 수
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11) // ALPN으로 협상, 불가하면 HTTP/1.1
+                .secure()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .metrics(true, uri -> "/images/generations"); // uri 태그 카디널리티 고정
+        return webClientBuilder.clone()
+                .baseUrl("https://api.openai.com/v1")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // DALL·E 결과 이미지 다운로드용 JDK HttpClient (내부 커넥션 풀, HTTP/2 우선)
+    @Bean
+    public java.net.http.HttpClient imageDownloadHttpClient(
+            @Value("${http.client.image.connect-timeout:5s}") Duration connectTimeout) {
+        return java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.nextpage.backend.config;
+
+import com.nextpage.backend.service.openai.AdaptiveConcurrencyLimiter;
+import com.nextpage.backend.service.openai.CircuitBreaker;
+import com.nextpage.backend.service.openai.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// OpenAI 호출 한도 / 서킷 브레이커 (OpenAiCallGuard에서 사용) - 인스턴스마다 따로 동작하므로 한도는 인스턴스 수로 나눠 설정
+@Configuration
+public class OpenAiLimiterConfig {
+
+    // 초당 요청 수 - 계정의 이미지 생성 한도(분당 이미지 수 / 60)에 맞춤
+    @Bean
+    public TokenBucket openAiTokenBucket(@Value("${openai.limiter.requests-per-second:0.8}") double requestsPerSecond,
+                                         @Value("${openai.limiter.burst:5}") int burst) {
+        return new TokenBucket(requestsPerSecond, burst, System::nanoTime);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter openAiConcurrencyLimiter(@Value("${openai.limiter.concurrency.initial:4}") int initialLimit,
+                                                               @Value("${openai.limiter.concurrency.min:1}") int minLimit,
+                                                               @Value("${openai.limiter.concurrency.max:16}") int maxLimit,
+                                                               @Value("${openai.limiter.concurrency.backoff-ratio:0.5}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio);
+    }
+
+    @Bean
+    public CircuitBreaker openAiCircuitBreaker(@Value("${openai.circuit-breaker.window-size:20}") int windowSize,
+                                               @Value("${openai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                               @Value("${openai.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                               @Value("${openai.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                               @Value("${openai.circuit-breaker.half-open-calls:2}") int halfOpenCalls) {
+        return new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration.toNanos(), halfOpenCalls, System::nanoTime);
+    }
+}
@@ -0,0 +1,92 @@
+package com.nextpage.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextpage.backend.controller.ReactiveStoryHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.repository.config.EnableReactiveNeo4jRepositories;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * 스토리 읽기 API의 리액티브 경로 (선택 기능, reactive.server.enabled=true)
+ * 애플리케이션은 서블릿(Tomcat) 기반이므로 WebFlux 라우트는 별도 포트의 Reactor Netty 서버에서 작은 이벤트 루프 풀로 처리한다.
+ * 같은 데이터/캐시를 쓰는 기존 MVC 경로(8080)와 나란히 띄워 k6로 A/B 비교 (monitoring/k6/read_path_comparison.js)
+ * 요청 지표는 reactor.netty.http.server.* 이름으로 Prometheus에 노출됨
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+@EnableReactiveNeo4jRepositories(basePackages = "com.nextpage.backend.repository.reactive")
+public class ReactiveServerConfig {
+
+    @Bean
+    public ReactiveServer reactiveStoryServer(ReactiveStoryHandler reactiveStoryHandler,
+                                              ObjectMapper objectMapper,
+                                              @Value("${reactive.server.port:8081}") int port,
+                                              @Value("${reactive.server.event-loop-threads:4}") int eventLoopThreads) {
+        // 응답 직렬화는 MVC와 같은 ObjectMapper 설정 사용 (날짜 형식 등)
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(reactiveStoryHandler.routes(), strategies);
+        return new ReactiveServer(httpHandler, port, eventLoopThreads);
+    }
+
+    @Slf4j
+    public static class ReactiveServer implements SmartLifecycle {
+        private final HttpHandler httpHandler;
+        private final int port;
+        private final int eventLoopThreads;
+        private LoopResources loopResources;
+        private DisposableServer server;
+
+        ReactiveServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+            this.httpHandler = httpHandler;
+            this.port = port;
+            this.eventLoopThreads = eventLoopThreads;
+        }
+
+        @Override
+        public synchronized void start() {
+            loopResources = LoopResources.create("reactive-story", 1, eventLoopThreads, true);
+            server = HttpServer.create()
+                    .port(port)
+                    .runOn(loopResources)
+                    .metrics(true, uri -> ReactiveStoryHandler.PATH_PREFIX) // uri 태그 카디널리티 고정
+                    .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                    .bindNow();
+            log.info("Reactive story server started on port {} ({} event loop threads)", server.port(), eventLoopThreads);
+        }
+
+        @Override
+        public synchronized void stop() {
+            if (server != null) {
+                server.disposeNow();
+                server = null;
+            }
+            if (loopResources != null) {
+                loopResources.disposeLater().block();
+                loopResources = null;
+            }
+        }
+
+        @Override
+        public synchronized boolean isRunning() {
+            return server != null;
+        }
+    }
+}
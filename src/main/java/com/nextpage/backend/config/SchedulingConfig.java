@@ -0,0 +1,10 @@
+package com.nextpage.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (북마크 스냅샷 대사 등) 활성화 - 기본 단일 스레드 스케줄러 사용
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,90 @@
+package com.nextpage.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 가상 스레드 실행 모드 (virtual-threads 프로필, Java 21 이상에서만 활성화)
+ * Tomcat 요청 처리 / @Async / 스케줄러는 spring.threads.virtual.enabled 로 Spring Boot가 전환하고,
+ * 여기서는 AsyncConfig의 플랫폼 스레드 풀을 작업마다 가상 스레드를 만드는 실행기로 대체한다.
+ * 렌디션 인코딩(imageEncodingPool)은 CPU 바운드라 그대로 플랫폼 ForkJoinPool 사용.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 이미지 생성 작업 - 플랫폼 풀의 (pool-size + queue-capacity) 만큼만 동시에 받고 초과 시 거절 (503, I006 유지)
+    @Bean(name = "imageTaskExecutor")
+    public TaskExecutor imageTaskExecutor(@Value("${image.job.pool-size:8}") int poolSize,
+                                          @Value("${image.job.queue-capacity:100}") int queueCapacity) {
+        return new BoundedTaskExecutor(virtualThreadExecutor("image-job-"), poolSize + queueCapacity);
+    }
+
+    @Bean(name = "mvcAsyncExecutor")
+    public AsyncTaskExecutor mvcAsyncExecutor() {
+        return virtualThreadExecutor("mvc-async-");
+    }
+
+    // S3 업로드 - 동시 연결 수는 S3 클라이언트 커넥션 풀이 제한
+    @Bean(name = "imageUploadExecutor")
+    public AsyncTaskExecutor imageUploadExecutor() {
+        return virtualThreadExecutor("image-upload-");
+    }
+
+    // DALL·E 병렬 호출 - 플랫폼 풀의 (pool-size + queue-capacity) 만큼만 동시에 받음 (429, O004)
+    @Bean(name = "openAiFanOutExecutor")
+    public TaskExecutor openAiFanOutExecutor(@Value("${openai.image.fan-out-pool-size:8}") int poolSize) {
+        return new BoundedTaskExecutor(virtualThreadExecutor("openai-fan-out-"), poolSize * 5);
+    }
+
+    // 캐시 로딩을 별도 가상 스레드에서 실행 - Caffeine 내부 잠금(synchronized) 안에서 DB를 기다리며 캐리어 스레드에 고정되지 않도록
+    @Bean(name = "cacheLoadExecutor")
+    public Executor cacheLoadExecutor() {
+        return virtualThreadExecutor("cache-load-");
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000); // 종료 시 실행 중인 작업 대기 (플랫폼 풀의 awaitTermination 과 동일)
+        return executor;
+    }
+
+    // 가상 스레드는 개수 제한이 없으므로 실행 중인 작업 수를 세어 상한을 넘으면 TaskRejectedException
+    static class BoundedTaskExecutor implements TaskExecutor {
+        private final TaskExecutor delegate;
+        private final Semaphore permits;
+
+        BoundedTaskExecutor(TaskExecutor delegate, int maxConcurrent) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxConcurrent);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!permits.tryAcquire()) { throw new TaskRejectedException("동시 작업 수 초과"); }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+}
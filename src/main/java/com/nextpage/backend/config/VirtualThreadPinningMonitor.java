@@ -0,0 +1,96 @@
+package com.nextpage.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 블로킹된 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 감시한다.
+ * synchronized 블록 / 네이티브 호출 안에서 I/O를 기다리는 코드(드라이버 포함)를 찾기 위한 것으로,
+ * 고정 시간은 jvm.threads.virtual.pinned 타이머(frame 태그 = 고정을 일으킨 첫 애플리케이션 / 라이브러리 프레임)로 노출하고
+ * 같은 위치의 스택은 한 번만 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> loggedFrames = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = pinningFrame(event.getStackTrace());
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (loggedFrames.add(frame)) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), frame,
+                    formatStack(event.getStackTrace()));
+        }
+    }
+
+    // JDK 내부 프레임(java.*, jdk.*, sun.*)을 건너뛴 첫 프레임 = synchronized / 네이티브 구간을 연 코드
+    private static String pinningFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) { return "unknown"; }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) { return ""; }
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("    at ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) { stream.close(); }
+    }
+}
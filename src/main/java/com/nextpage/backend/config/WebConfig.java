@@ -1,11 +1,31 @@
 package com.nextpage.backend.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+    private final AsyncTaskExecutor mvcAsyncExecutor;
+    private final Duration asyncRequestTimeout;
+
+    public WebConfig(@Qualifier("mvcAsyncExecutor") AsyncTaskExecutor mvcAsyncExecutor,
+                     @Value("${web.async.request-timeout:5m}") Duration asyncRequestTimeout) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) { // 스트리밍 응답을 쓰는 스레드 풀 / 제한 시간
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) { //인터페이스 WebMvcConfigurer 상속
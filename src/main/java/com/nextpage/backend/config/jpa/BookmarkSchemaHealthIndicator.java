@@ -0,0 +1,27 @@
+package com.nextpage.backend.config.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 북마크 테이블 보정(BookmarkSchemaMigration)의 인덱스가 모두 있을 때만 UP (readiness 그룹에 포함)
+ */
+@RequiredArgsConstructor
+@Component
+public class BookmarkSchemaHealthIndicator extends AbstractHealthIndicator {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'bookmarks' AND indexname = ANY (?)",
+                String.class, (Object) BookmarkSchemaMigration.REQUIRED_INDEXES.toArray(String[]::new));
+        (indexes.containsAll(BookmarkSchemaMigration.REQUIRED_INDEXES) ? builder.up() : builder.down())
+                .withDetail("indexes", indexes);
+    }
+}
@@ -0,0 +1,99 @@
+package com.nextpage.backend.config.jpa;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 기존 북마크 테이블 보정 (ddl-auto: update 는 컬럼 타입을 바꾸지 않음, 여러 번 실행해도 안전)
+ * 모든 빈 생성 직후(웹 서버가 요청을 받기 전)에 실행 - 유니크 인덱스가 생기기 전에 일괄 추가(ON CONFLICT)가 호출되지 않도록 (BookmarkSchemaHealthIndicator)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BookmarkSchemaMigration implements SmartInitializingSingleton {
+    static final String UNIQUE_INDEX = "uq_bookmarks_user_story";
+    // 헬스 체크에서 존재 여부를 확인하는 인덱스
+    static final List<String> REQUIRED_INDEXES = List.of(UNIQUE_INDEX, "idx_bookmarks_user_created", "idx_bookmarks_story");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        widenStoryId();
+        addUserStoryUniqueIndex();
+        addLiveRowIndexes();
+    }
+
+    // 스토리 id가 53비트 애플리케이션 id로 바뀌어 INT 범위를 넘으므로 BIGINT로 변경 (기존 값은 그대로 유효)
+    private void widenStoryId() {
+        List<String> types = jdbcTemplate.queryForList("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_name = 'bookmarks' AND column_name = 'storyId'
+                """, String.class);
+        if (types.contains("integer")) {
+            jdbcTemplate.execute("ALTER TABLE \"bookmarks\" ALTER COLUMN \"storyId\" TYPE BIGINT");
+            log.info("bookmarks.storyId widened to BIGINT");
+        }
+    }
+
+    // 북마크 일괄 추가(ON CONFLICT)에 필요한 ("userId", "storyId") 유니크 인덱스 - 기존 중복 북마크는 가장 먼저 추가한 것만 남김
+    // 배포 중 다른 인스턴스가 쓰는 북마크가 중복 정리와 인덱스 생성 사이에 끼어들지 않도록 한 트랜잭션에서 테이블 쓰기를 잠금
+    private void addUserStoryUniqueIndex() {
+        String existing = jdbcTemplate.queryForObject("SELECT to_regclass('\"" + UNIQUE_INDEX + "\"')::text", String.class);
+        if (existing != null) { return; }
+        int removed = jdbcTemplate.execute((ConnectionCallback<Integer>) con -> {
+            boolean autoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try (Statement statement = con.createStatement()) {
+                statement.execute("LOCK TABLE \"bookmarks\" IN SHARE ROW EXCLUSIVE MODE"); // 읽기는 허용, 쓰기는 커밋까지 대기
+                int deleted = statement.executeUpdate("""
+                        DELETE FROM "bookmarks" a USING "bookmarks" b
+                        WHERE a."userId" = b."userId" AND a."storyId" = b."storyId" AND a."id" > b."id"
+                        """);
+                statement.execute("CREATE UNIQUE INDEX IF NOT EXISTS \"" + UNIQUE_INDEX + "\" ON \"bookmarks\" (\"userId\", \"storyId\")");
+                con.commit();
+                return deleted;
+            } catch (SQLException | RuntimeException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(autoCommit);
+            }
+        });
+        log.info("bookmarks (userId, storyId) unique index created, {} duplicates removed", removed);
+    }
+
+    // 조회용 인덱스는 삭제되지 않은 행만 포함하는 부분 인덱스 - 삭제 행이 쌓여도 인덱스 크기 / 조회 비용이 늘지 않음
+    // (스냅샷 / deletedAt 컬럼은 ddl-auto로 추가됨)
+    private void addLiveRowIndexes() {
+        replaceWithPartialIndex("idx_bookmarks_user_created", """
+                CREATE INDEX "idx_bookmarks_user_created" ON "bookmarks" ("userId", "createdAt" DESC, "id" DESC)
+                WHERE "isDeleted" = false
+                """);
+        replaceWithPartialIndex("idx_bookmarks_story", """
+                CREATE INDEX "idx_bookmarks_story" ON "bookmarks" ("storyId") WHERE "isDeleted" = false
+                """);
+        // 보관 기간이 지난 삭제 행 정리 (TombstonePurgeService)
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS "idx_bookmarks_deleted_at" ON "bookmarks" ("deletedAt") WHERE "isDeleted" = true
+                """);
+    }
+
+    // 인덱스가 없거나 전체 행 인덱스면 부분 인덱스로 다시 생성
+    private void replaceWithPartialIndex(String name, String createSql) {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = 'bookmarks' AND indexname = ?", String.class, name);
+        if (!definitions.isEmpty() && definitions.get(0).contains(" WHERE ")) { return; }
+        jdbcTemplate.execute("DROP INDEX IF EXISTS \"" + name + "\"");
+        jdbcTemplate.execute(createSql);
+        log.info("bookmarks index {} recreated as partial index (isDeleted = false)", name);
+    }
+}
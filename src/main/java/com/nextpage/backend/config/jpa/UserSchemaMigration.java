@@ -0,0 +1,44 @@
+package com.nextpage.backend.config.jpa;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 사용자 테이블 보정 (여러 번 실행해도 안전)
+ * 회원 탈퇴가 삭제 표시로 바뀌어 이메일 / 닉네임 유니크 제약을 탈퇴하지 않은 사용자로 한정한다.
+ * 모든 빈 생성 직후(웹 서버가 요청을 받기 전)에 실행 - 탈퇴한 이메일로 다시 가입하는 요청이 이전 제약에 막히지 않도록
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserSchemaMigration implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        dropColumnUniqueConstraints();
+        jdbcTemplate.execute("""
+                CREATE UNIQUE INDEX IF NOT EXISTS "uq_users_email_live" ON "users" ("email") WHERE "isDeleted" = false
+                """);
+        jdbcTemplate.execute("""
+                CREATE UNIQUE INDEX IF NOT EXISTS "uq_users_nickname_live" ON "users" ("nickname") WHERE "isDeleted" = false
+                """);
+    }
+
+    // init.sql 의 컬럼 UNIQUE(users_email_key 등)와 이전 엔티티의 unique = true 로 생성된 제약 제거
+    private void dropColumnUniqueConstraints() {
+        List<String> constraints = jdbcTemplate.queryForList("""
+                SELECT conname FROM pg_constraint
+                WHERE conrelid = '"users"'::regclass AND contype = 'u'
+                """, String.class);
+        for (String constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE \"users\" DROP CONSTRAINT \"" + constraint + "\"");
+            log.info("users unique constraint {} dropped (replaced by partial unique index)", constraint);
+        }
+    }
+}
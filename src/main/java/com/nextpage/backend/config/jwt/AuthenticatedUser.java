@@ -0,0 +1,8 @@
+package com.nextpage.backend.config.jwt;
+
+/**
+ * 액세스 토큰에서 꺼낸 인증 사용자 정보. SecurityContext의 principal로 사용된다.
+ * 컨트롤러에서는 @AuthenticationPrincipal 로 주입받는다.
+ */
+public record AuthenticatedUser(Long id, String nickname) {
+}
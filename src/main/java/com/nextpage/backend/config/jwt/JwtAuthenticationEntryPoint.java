@@ -0,0 +1,42 @@
+package com.nextpage.backend.config.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.ErrorResponse;
+import com.nextpage.backend.error.exception.auth.TokenUserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증이 필요한 API에 유효한 액세스 토큰 없이 접근한 경우 401 응답 (기존 토큰 에러 코드 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final TokenService tokenService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        TokenService.AccessTokenAuthentication authentication = tokenService.authenticate(request);
+        ErrorCode errorCode;
+        if (authentication.failure() instanceof TokenUserNotFoundException e) {
+            errorCode = e.getErrorCode();
+        } else {
+            errorCode = authentication.expired() ? ErrorCode.TOKEN_EXPIRED : ErrorCode.TOKEN_ACCESS_NOT_EXISTS;
+        }
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+    }
+}
@@ -1,24 +1,43 @@
 package com.nextpage.backend.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nextpage.backend.cache.UserIdentityCache;
 import com.nextpage.backend.error.exception.auth.TokenNotExistsException;
+import com.nextpage.backend.error.exception.auth.TokenUserNotFoundException;
 import com.nextpage.backend.error.exception.auth.TokenExpiredException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Arrays;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Slf4j
 @Service
 public class TokenService {
+    // 요청 단위로 한 번만 검증한 결과를 보관하는 request attribute 이름
+    static final String AUTHENTICATION_ATTRIBUTE = TokenService.class.getName() + ".AUTHENTICATION";
+
+    private final MeterRegistry meterRegistry;
+    private final UserIdentityCache userIdentityCache;
     private Key secretKey;
+    private JwtParser jwtParser; // 불변, 스레드 안전 - 모든 요청에서 공유
+    private Cache<String, Claims> verifiedTokens; // sha256(token) -> claims
 
     @Value("${jwt.secret-key}")
     private String SECRET_KEY;
@@ -29,11 +48,30 @@ public class TokenService {
     @Value("${jwt.token.refresh-expire-length}")
     private Long REFRESH_EXPIRE_LENGTH; // 리프레시 토큰의 만료 시간
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long VERIFIED_CACHE_MAX_SIZE;
+
+    @Value("${jwt.verified-cache.ttl:5m}")
+    private Duration VERIFIED_CACHE_TTL; // 토큰 만료 시각보다 늦게 남지 않음
+
+    public TokenService(MeterRegistry meterRegistry, UserIdentityCache userIdentityCache) {
+        this.meterRegistry = meterRegistry;
+        this.userIdentityCache = userIdentityCache;
+    }
+
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+                .expireAfter(new ClaimsExpiry(VERIFIED_CACHE_TTL))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
     }
 
+    // 액세스 토큰에는 userId만 담음 - 닉네임은 변경될 수 있어 인증 시 UserIdentityCache에서 조회 (캐시 미적중 시에만 Postgres)
     public String generateAccessToken(Long userId) { // 액세스, 리프레시 토큰 생성 로직 구현
         Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
         return Jwts.builder().setClaims(claims)
@@ -54,8 +92,9 @@ public class TokenService {
 
     public String reGenerateAccessToken(HttpServletRequest request) { // 액세스 토큰 재발급
         validateRefreshToken(request); // 만료 검사
-        Long id = getUserIdFromToken(request);
-        return generateAccessToken(id);
+        AccessTokenAuthentication authentication = authenticate(request);
+        if (authentication.failure() != null) { throw authentication.failure(); }
+        return generateAccessToken(authentication.userId());
     }
 
     public String resolveAccessToken(HttpServletRequest request) {
@@ -76,18 +115,15 @@ public class TokenService {
     }
 
     public void validateAccessToken(HttpServletRequest request) { // 만료 여부 검사
-        try {
-            String token = resolveAccessToken(request);
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-        } catch (ExpiredJwtException e) {
-            throw new TokenExpiredException();
-        }
+        AccessTokenAuthentication authentication = authenticate(request);
+        if (authentication.failure() != null) { throw authentication.failure(); }
+        if (authentication.expired()) { throw new TokenExpiredException(); }
     }
 
     public void validateRefreshToken(HttpServletRequest request) {
         try {
             String token = resolveRefreshToken(request);
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
         } catch (ExpiredJwtException e) { // 토큰이 만료된 경우
             throw new TokenExpiredException();
         } catch (IllegalArgumentException e) { // 토큰이 비어있거나 형식이 잘못된 경우
@@ -95,17 +131,93 @@ public class TokenService {
         }
     }
 
-    public Long getUserIdFromToken(HttpServletRequest request) { // 토큰에서 userId 정보 꺼내기
-        String token = resolveAccessToken(request);
+    public Long getUserIdFromToken(HttpServletRequest request) { // 토큰에서 userId 정보 꺼내기 (만료된 토큰이어도 subject 반환)
+        AccessTokenAuthentication authentication = authenticate(request);
+        if (authentication.failure() != null) { throw authentication.failure(); }
+        return authentication.userId();
+    }
+
+    // 만료되지 않은 유효한 토큰이면 principal 반환
+    public Optional<AuthenticatedUser> getAuthenticatedUser(HttpServletRequest request) {
+        AccessTokenAuthentication authentication = authenticate(request);
+        if (authentication.failure() != null || authentication.expired()) { return Optional.empty(); }
+        return Optional.of(new AuthenticatedUser(authentication.userId(), authentication.nickname()));
+    }
+
+    /**
+     * 요청의 액세스 토큰을 검증하고 결과를 request attribute에 보관한다.
+     * 같은 요청 안에서 다시 호출하면 서명 검증 없이 보관된 결과를 반환한다.
+     * 검증 실패도 결과로 보관되며 예외는 validateAccessToken / getUserIdFromToken 에서 던진다.
+     */
+    AccessTokenAuthentication authenticate(HttpServletRequest request) {
+        if (request.getAttribute(AUTHENTICATION_ATTRIBUTE) instanceof AccessTokenAuthentication cached) {
+            return cached;
+        }
+        AccessTokenAuthentication authentication;
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return Long.parseLong(claims.getSubject());
+            Claims claims = verify(resolveAccessToken(request));
+            authentication = AccessTokenAuthentication.of(claims, false);
         } catch (ExpiredJwtException e) {
-            return Long.parseLong(e.getClaims().getSubject());
+            authentication = AccessTokenAuthentication.of(e.getClaims(), true);
+        } catch (RuntimeException e) {
+            authentication = new AccessTokenAuthentication(null, null, false, e);
+        }
+        if (authentication.failure() == null) {
+            // 탈퇴했거나 없는 사용자의 토큰은 만료 전이어도 거부 (재발급 포함)
+            // 같은 조회로 닉네임도 채움 - 사용자당 identity-cache.ttl 에 한 번만 Postgres 조회
+            String nickname = userIdentityCache.getNickname(authentication.userId());
+            authentication = new AccessTokenAuthentication(authentication.userId(), nickname, authentication.expired(),
+                    nickname == null ? new TokenUserNotFoundException() : null);
+        }
+        request.setAttribute(AUTHENTICATION_ATTRIBUTE, authentication);
+        return authentication;
+    }
+
+    // 최근 검증한 토큰은 해시로 찾아 서명 검증을 건너뜀 (만료된 토큰은 캐시되지 않음)
+    private Claims verify(String token) {
+        String key = sha256(token);
+        Claims claims = verifiedTokens.getIfPresent(key);
+        if (claims != null && claims.getExpiration().after(new Date())) {
+            return claims;
+        }
+        claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record AccessTokenAuthentication(Long userId, String nickname, boolean expired, RuntimeException failure) {
+        private static AccessTokenAuthentication of(Claims claims, boolean expired) {
+            return new AccessTokenAuthentication(Long.parseLong(claims.getSubject()), null, expired, null);
+        }
+    }
+
+    // 캐시 항목은 ttl과 토큰 만료 시각 중 이른 시점에 제거
+    private record ClaimsExpiry(Duration ttl) implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long untilExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, Math.min(ttl.toMillis(), untilExpiration))).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
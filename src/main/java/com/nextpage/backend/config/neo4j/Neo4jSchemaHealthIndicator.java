@@ -0,0 +1,38 @@
+package com.nextpage.backend.config.neo4j;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 필요한 인덱스가 모두 ONLINE 이고 스키마 버전이 최신일 때만 UP (readiness 그룹에 포함)
+ */
+@RequiredArgsConstructor
+@Component
+public class Neo4jSchemaHealthIndicator extends AbstractHealthIndicator {
+    private final Neo4jClient neo4jClient;
+    private final Neo4jSchemaInitializer schemaInitializer;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Map<String, String> states = new HashMap<>();
+        neo4jClient.query("SHOW INDEXES YIELD name, state WHERE name IN $names RETURN name, state")
+                .bind(Neo4jSchemaInitializer.REQUIRED_INDEXES).to("names")
+                .fetch()
+                .all()
+                .forEach(row -> states.put((String) row.get("name"), (String) row.get("state")));
+        long version = schemaInitializer.currentVersion();
+
+        boolean indexesOnline = Neo4jSchemaInitializer.REQUIRED_INDEXES.stream()
+                .allMatch(name -> "ONLINE".equals(states.get(name)));
+        boolean upToDate = version == Neo4jSchemaInitializer.MIGRATIONS.size();
+        (indexesOnline && upToDate ? builder.up() : builder.down())
+                .withDetail("version", version)
+                .withDetail("indexes", states);
+    }
+}
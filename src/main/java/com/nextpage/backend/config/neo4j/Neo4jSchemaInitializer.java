@@ -0,0 +1,73 @@
+package com.nextpage.backend.config.neo4j;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Story 그래프의 인덱스 / 제약조건을 버전 단위로 생성한다.
+ * 모든 빈 생성 직후(웹 서버가 요청을 받기 전)에 실행되며, 인덱스가 ONLINE 이 될 때까지 기다린다.
+ * 적용된 버전은 (:SchemaVersion {name: 'story'}) 노드에 기록하고, 각 구문은 IF NOT EXISTS 로 재실행해도 안전하다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class Neo4jSchemaInitializer implements SmartInitializingSingleton {
+    private static final String SCHEMA_NAME = "story";
+
+    // 버전별 스키마 구문 - 변경 시 기존 버전은 수정하지 않고 새 버전을 추가
+    static final List<List<String>> MIGRATIONS = List.of(
+            List.of( // v1: 작성자별 조회, 최신순 정렬, 루트 목록
+                    "CREATE INDEX story_user_nickname IF NOT EXISTS FOR (s:Story) ON (s.userNickname)",
+                    "CREATE INDEX story_created_at IF NOT EXISTS FOR (s:Story) ON (s.createdAt)",
+                    "CREATE INDEX story_root_created_at IF NOT EXISTS FOR (s:Root) ON (s.createdAt)"),
+            List.of( // v2: 애플리케이션 id (기존 스토리는 StoryGraphMigration에서 ID() 값으로 채움)
+                    "CREATE CONSTRAINT story_id_unique IF NOT EXISTS FOR (s:Story) REQUIRE s.id IS UNIQUE"),
+            List.of( // v3: 삭제 표시 - 살아있는 노드만 탐색하도록 isDeleted를 앞에 둔 복합 인덱스로 v1 인덱스 대체
+                    "CREATE INDEX story_root_live_created_at IF NOT EXISTS FOR (s:Root) ON (s.isDeleted, s.createdAt)",
+                    "CREATE INDEX story_user_live_created_at IF NOT EXISTS FOR (s:Story) ON (s.userNickname, s.isDeleted, s.createdAt)",
+                    "DROP INDEX story_root_created_at IF EXISTS",
+                    "DROP INDEX story_user_nickname IF EXISTS"),
+            List.of( // v4: id 생성기 워커 번호 임대 (StoryIdGenerator)
+                    "CREATE CONSTRAINT id_worker_unique IF NOT EXISTS FOR (w:IdWorker) REQUIRE w.id IS UNIQUE")
+    );
+
+    // 헬스 체크에서 ONLINE 여부를 확인하는 인덱스 / 제약조건 이름
+    static final List<String> REQUIRED_INDEXES = List.of(
+            "story_created_at", "story_id_unique", "story_root_live_created_at", "story_user_live_created_at", "id_worker_unique");
+
+    private final Neo4jClient neo4jClient;
+
+    @Value("${neo4j.schema.await-timeout:300s}")
+    private Duration awaitTimeout;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long current = currentVersion();
+        for (int version = (int) current + 1; version <= MIGRATIONS.size(); version++) {
+            MIGRATIONS.get(version - 1).forEach(statement -> neo4jClient.query(statement).run()); // 스키마 구문은 각각 별도 트랜잭션
+            neo4jClient.query("MERGE (v:SchemaVersion {name: $name}) SET v.version = $version, v.appliedAt = datetime()")
+                    .bind(SCHEMA_NAME).to("name")
+                    .bind(version).to("version")
+                    .run();
+            log.info("Neo4j schema migrated to v{}", version);
+        }
+        neo4jClient.query("CALL db.awaitIndexes($timeout)")
+                .bind(awaitTimeout.toSeconds()).to("timeout")
+                .run();
+    }
+
+    long currentVersion() {
+        return neo4jClient.query("MATCH (v:SchemaVersion {name: $name}) RETURN v.version")
+                .bind(SCHEMA_NAME).to("name")
+                .fetchAs(Long.class)
+                .one()
+                .orElse(0L);
+    }
+}
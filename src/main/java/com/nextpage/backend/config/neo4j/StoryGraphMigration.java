@@ -0,0 +1,179 @@
+package com.nextpage.backend.config.neo4j;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기존 스토리 그래프 데이터 보정 (모든 단계가 멱등 - 여러 번, 여러 인스턴스에서 실행해도 안전)
+ * 모든 빈 생성 직후(웹 서버가 요청을 받기 전)에 실행되어 id / isDeleted / path 가 없는 스토리가 조회되지 않도록 한다.
+ * - 전체 스토리를 훑는 일회성 단계는 (:SchemaVersion {name: 'story-data'}) 버전으로 한 번만 실행 (StoryGraphMigrationHealthIndicator)
+ * - 값이 없는 스토리만 찾는 보정은 시작할 때마다, 그리고 주기적으로 실행
+ *   롤링 배포 중 이전 버전 인스턴스가 id / path / :Root 라벨 없이 만든 스토리도 backfill-interval 안에 보정됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StoryGraphMigration implements SmartInitializingSingleton {
+    private static final String DATA_NAME = "story-data";
+    // 보정 항목을 추가하면 버전을 올려 기존 데이터에도 다시 실행되도록 함
+    static final long DATA_VERSION = 1;
+    private static final int PATH_BACKFILL_BATCH_SIZE = 1000;
+    private static final int ID_BACKFILL_BATCH_SIZE = 10000;
+
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (currentVersion() < DATA_VERSION) {
+            backfillIds();
+            backfillDeletedFlags();
+            backfillRootLabels();
+            backfillPaths();
+            neo4jClient.query("MERGE (v:SchemaVersion {name: $name}) SET v.version = $version, v.appliedAt = datetime()")
+                    .bind(DATA_NAME).to("name")
+                    .bind(DATA_VERSION).to("version")
+                    .run();
+            log.info("Story graph data migrated to v{}", DATA_VERSION);
+        }
+        backfillIncomplete();
+    }
+
+    // 이전 버전 인스턴스가 만든 스토리 보정 - 값이 없는 스토리만 찾으므로 보정할 스토리가 없으면 조회 한 번씩으로 끝남
+    @Scheduled(initialDelayString = "${story.migration.backfill-interval:5m}",
+            fixedDelayString = "${story.migration.backfill-interval:5m}")
+    public void backfillIncomplete() {
+        backfillIds(); // 경로는 조상의 id로 만들므로 먼저 실행
+        backfillDeletedFlags();
+        backfillMissingPaths();
+    }
+
+    long currentVersion() {
+        return neo4jClient.query("MATCH (v:SchemaVersion {name: $name}) RETURN v.version")
+                .bind(DATA_NAME).to("name")
+                .fetchAs(Long.class)
+                .one()
+                .orElse(0L);
+    }
+
+    // 애플리케이션 id 도입 이전에 생성된 스토리는 기존 내부 ID() 값을 그대로 id로 사용
+    // (북마크의 storyId가 같은 값을 가리키므로 별도 변환 불필요, 새 id는 타임스탬프 기반이라 겹치지 않음)
+    private void backfillIds() {
+        long total = 0;
+        long updated;
+        do {
+            updated = neo4jClient.query("""
+                            MATCH (s:Story) WHERE s.id IS NULL
+                            WITH s LIMIT $batchSize
+                            SET s.id = ID(s)
+                            RETURN count(s)
+                            """)
+                    .bind(ID_BACKFILL_BATCH_SIZE).to("batchSize")
+                    .fetchAs(Long.class)
+                    .one()
+                    .orElse(0L);
+            total += updated;
+        } while (updated > 0);
+        if (total > 0) { log.info("Story id backfill: {} stories updated", total); }
+    }
+
+    // isDeleted 가 없는 스토리는 삭제되지 않은 것으로 채움 (조회 조건 s.isDeleted = false 와 v3 복합 인덱스 대상이 되도록)
+    private void backfillDeletedFlags() {
+        long total = 0;
+        long updated;
+        do {
+            updated = neo4jClient.query("""
+                            MATCH (s:Story) WHERE s.isDeleted IS NULL
+                            WITH s LIMIT $batchSize
+                            SET s.isDeleted = false
+                            RETURN count(s)
+                            """)
+                    .bind(ID_BACKFILL_BATCH_SIZE).to("batchSize")
+                    .fetchAs(Long.class)
+                    .one()
+                    .orElse(0L);
+            total += updated;
+        } while (updated > 0);
+        if (total > 0) { log.info("Story isDeleted backfill: {} stories updated", total); }
+    }
+
+    // :Root 라벨 도입 이전에 생성된 루트 스토리에 라벨 붙이기 (인덱스는 Neo4jSchemaInitializer에서 생성)
+    private void backfillRootLabels() {
+        Long labeled = neo4jClient.query("""
+                        MATCH (s:Story) WHERE NOT (s)<-[:PARENT_OF]-() AND NOT s:Root
+                        SET s:Root
+                        RETURN count(s)
+                        """)
+                .fetchAs(Long.class)
+                .one()
+                .orElse(0L);
+        log.info("Root label backfill: {} stories labeled", labeled);
+    }
+
+    // 조상 경로(path) 도입 이전에 생성된 스토리에 경로 채우기
+    // id 순으로 한 번만 훑으며 (id 유니크 인덱스 범위 조회) 경로가 없는 스토리는 루트까지의 관계에서 계산 - 배치마다 별도 트랜잭션
+    // 부모가 먼저 채워질 필요가 없어 매 배치마다 path IS NULL 인 노드를 다시 찾지 않음
+    private void backfillPaths() {
+        long total = 0;
+        Long after = -1L; // 마이그레이션된 id는 0부터 시작
+        while (after != null) {
+            Map<String, Object> batch = neo4jClient.query("""
+                            MATCH (s:Story) WHERE s.id > $after
+                            WITH s ORDER BY s.id LIMIT $batchSize
+                            CALL {
+                                WITH s
+                                MATCH p=(s)<-[:PARENT_OF*0..]-(root:Story)
+                                WHERE s.path IS NULL AND NOT (:Story)-[:PARENT_OF]->(root)
+                                SET s.path = [n IN reverse(tail(nodes(p))) | n.id]
+                                RETURN count(p) AS updated
+                            }
+                            RETURN max(s.id) AS lastId, sum(updated) AS updated
+                            """)
+                    .bind(after).to("after")
+                    .bind(PATH_BACKFILL_BATCH_SIZE).to("batchSize")
+                    .fetch()
+                    .one()
+                    .orElse(Map.of());
+            after = (Long) batch.get("lastId"); // 남은 스토리가 없으면 null
+            Object updated = batch.get("updated");
+            total += updated == null ? 0 : ((Number) updated).longValue();
+        }
+        log.info("Story path backfill: {} stories updated", total);
+    }
+
+    // 경로가 없는 스토리만 배치로 찾아 경로 계산, 루트(빈 경로)이면 :Root 라벨도 함께 붙임
+    // 경로를 계산하지 못한 스토리(루트에 닿지 않는 관계)만 남으면 같은 스토리를 계속 찾지 않도록 중단
+    private void backfillMissingPaths() {
+        long total = 0;
+        while (true) {
+            Map<String, Object> batch = neo4jClient.query("""
+                            MATCH (s:Story) WHERE s.path IS NULL
+                            WITH s LIMIT $batchSize
+                            CALL {
+                                WITH s
+                                MATCH p=(s)<-[:PARENT_OF*0..]-(root:Story)
+                                WHERE NOT (:Story)-[:PARENT_OF]->(root)
+                                WITH s, [n IN reverse(tail(nodes(p))) | n.id] AS ancestorIds
+                                SET s.path = ancestorIds
+                                FOREACH (ignored IN CASE WHEN size(ancestorIds) = 0 THEN [1] ELSE [] END | SET s:Root)
+                                RETURN count(*) AS updated
+                            }
+                            RETURN sum(updated) AS updated
+                            """)
+                    .bind(PATH_BACKFILL_BATCH_SIZE).to("batchSize")
+                    .fetch()
+                    .one()
+                    .orElse(Map.of());
+            Object updatedValue = batch.get("updated");
+            long updated = updatedValue == null ? 0 : ((Number) updatedValue).longValue();
+            total += updated;
+            if (updated == 0) { break; }
+        }
+        if (total > 0) { log.info("Story path backfill (incomplete stories): {} stories updated", total); }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nextpage.backend.config.neo4j;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스토리 그래프 데이터 보정(StoryGraphMigration)이 최신 버전까지 끝났을 때만 UP (readiness 그룹에 포함)
+ */
+@RequiredArgsConstructor
+@Component
+public class StoryGraphMigrationHealthIndicator extends AbstractHealthIndicator {
+    private final StoryGraphMigration storyGraphMigration;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        long version = storyGraphMigration.currentVersion();
+        (version >= StoryGraphMigration.DATA_VERSION ? builder.up() : builder.down())
+                .withDetail("version", version);
+    }
+}
@@ -0,0 +1,197 @@
+package com.nextpage.backend.config.neo4j;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.schema.IdGenerator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 순으로 증가하는 스토리 id 생성기 (Snowflake 방식, Neo4j 내부 ID() 대체)
+ * [41비트 밀리초 타임스탬프 | 4비트 워커 | 8비트 시퀀스] = 53비트 - JavaScript Number로 손실 없이 표현 가능
+ * 워커 번호는 (:IdWorker {id, owner, leasedUntil}) 노드를 임대해 인스턴스끼리 겹치지 않게 하고, id는 DB 왕복 없이 메모리에서 발급한다.
+ * - 임대는 lease-ttl 동안 유효하고 heartbeat-interval 마다 연장, 종료 시 반납 (비정상 종료한 인스턴스의 번호는 TTL이 지나면 재사용)
+ * - 빈 번호가 없으면 시작하지 않고, 연장하지 못한 채 임대가 끝나면 새로 임대하기 전까지 id를 발급하지 않는다.
+ */
+@Slf4j
+@Component("storyIdGenerator")
+public class StoryIdGenerator implements IdGenerator<Long>, SmartLifecycle {
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int WORKER_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    static final long MAX_WORKERS = 1L << WORKER_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final Neo4jClient neo4jClient;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    // synchronized 대신 Lock - 워커 임대(Neo4j 왕복) 동안 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+    private long workerId = -1;
+    private long leaseExpiresAt; // System.nanoTime 기준, 연장 요청을 보낸 시각 + TTL (DB 시계보다 먼저 만료되도록)
+    private long lastTimestamp = -1;
+    private long sequence;
+    private volatile boolean running;
+
+    @Autowired
+    public StoryIdGenerator(Neo4jClient neo4jClient,
+                            @Value("${story.id.worker.lease-ttl:60s}") Duration leaseTtl) {
+        this.neo4jClient = neo4jClient;
+        this.leaseTtl = leaseTtl;
+    }
+
+    StoryIdGenerator(long workerId) { // 테스트용 - 임대 없이 고정 워커
+        this.neo4jClient = null;
+        this.leaseTtl = null;
+        this.workerId = workerId;
+    }
+
+    @Override
+    public Long generateId(String primaryLabel, Object entity) {
+        return nextId();
+    }
+
+    long nextId() {
+        lock.lock();
+        try {
+            ensureLease();
+            long timestamp = System.currentTimeMillis() - EPOCH;
+            if (timestamp <= lastTimestamp) { // 같은 밀리초이거나 시계가 뒤로 간 경우에도 감소하지 않도록
+                timestamp = lastTimestamp;
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) { timestamp++; } // 밀리초당 시퀀스를 모두 쓰면 다음 밀리초를 미리 사용
+            } else {
+                sequence = 0;
+            }
+            lastTimestamp = timestamp;
+            return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 임대가 없거나 끝났으면 (연장 실패가 이어진 경우) 먼저 연장 / 재임대 - 실패하면 IllegalStateException
+    private void ensureLease() {
+        if (neo4jClient == null) { return; }
+        if (workerId >= 0 && System.nanoTime() - leaseExpiresAt < 0) { return; }
+        if (workerId < 0 || !renewLease()) {
+            workerId = -1;
+            leaseWorkerId();
+        }
+    }
+
+    // 비어 있거나 만료된 번호 중 가장 작은 번호를 임대 - 잠금 노드에 먼저 쓰기 잠금을 잡아 동시에 시작한 인스턴스끼리 같은 번호를 고르지 않음
+    private void leaseWorkerId() {
+        long requestedAt = System.nanoTime();
+        Long leased = neo4jClient.query("""
+                        MERGE (l:IdSequence {name: 'story-worker'})
+                        SET l.lockedAt = timestamp()
+                        WITH l
+                        UNWIND range(0, $maxWorkers - 1) AS slot
+                        MERGE (w:IdWorker {id: slot})
+                        WITH w WHERE w.owner = $owner OR w.leasedUntil IS NULL OR w.leasedUntil < timestamp()
+                        WITH w ORDER BY w.id LIMIT 1
+                        SET w.owner = $owner, w.leasedUntil = timestamp() + $ttl
+                        RETURN w.id
+                        """)
+                .bind(MAX_WORKERS).to("maxWorkers")
+                .bind(owner).to("owner")
+                .bind(leaseTtl.toMillis()).to("ttl")
+                .fetchAs(Long.class)
+                .one()
+                .orElseThrow(() -> new IllegalStateException("사용 가능한 스토리 id 워커 번호가 없음 (최대 " + MAX_WORKERS + "개)"));
+        workerId = leased;
+        leaseExpiresAt = requestedAt + leaseTtl.toNanos();
+        log.info("Story id worker leased: {} (owner {})", leased, owner);
+    }
+
+    // 다른 인스턴스가 가져간 경우(임대 만료 후 재임대) false
+    private boolean renewLease() {
+        long requestedAt = System.nanoTime();
+        boolean renewed = neo4jClient.query("""
+                        MATCH (w:IdWorker {id: $id, owner: $owner})
+                        SET w.leasedUntil = timestamp() + $ttl
+                        RETURN w.id
+                        """)
+                .bind(workerId).to("id")
+                .bind(owner).to("owner")
+                .bind(leaseTtl.toMillis()).to("ttl")
+                .fetchAs(Long.class)
+                .one()
+                .isPresent();
+        if (renewed) {
+            leaseExpiresAt = requestedAt + leaseTtl.toNanos();
+        } else {
+            log.warn("Story id worker lease lost: {}", workerId);
+        }
+        return renewed;
+    }
+
+    @Scheduled(initialDelayString = "${story.id.worker.heartbeat-interval:10s}",
+            fixedDelayString = "${story.id.worker.heartbeat-interval:10s}")
+    public void heartbeat() {
+        if (!running) { return; }
+        lock.lock();
+        try {
+            if (!renewLease()) {
+                workerId = -1;
+                leaseWorkerId();
+            }
+        } catch (RuntimeException e) {
+            log.error("Story id worker heartbeat failed: {}", e.getMessage()); // 임대가 끝나기 전까지는 계속 발급
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 시작 시 임대해 번호가 없으면 애플리케이션이 뜨지 않도록 함
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            ensureLease();
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 웹 서버가 요청 처리를 끝낸 뒤 반납 - 같은 번호를 다음 인스턴스가 바로 쓸 수 있도록
+    @Override
+    public void stop() {
+        running = false;
+        lock.lock();
+        try {
+            if (neo4jClient == null || workerId < 0) { return; }
+            neo4jClient.query("MATCH (w:IdWorker {id: $id, owner: $owner}) SET w.owner = null, w.leasedUntil = null")
+                    .bind(workerId).to("id")
+                    .bind(owner).to("owner")
+                    .run();
+            log.info("Story id worker released: {}", workerId);
+            workerId = -1;
+        } catch (RuntimeException e) {
+            log.warn("Story id worker release failed, expires after TTL: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -1,17 +1,22 @@
 package com.nextpage.backend.controller;
 
+import com.nextpage.backend.config.jwt.AuthenticatedUser;
+import com.nextpage.backend.dto.request.BookmarkBulkRequest;
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.response.BookmarkBulkResponseDTO;
 import com.nextpage.backend.dto.response.BookmarkResponseDTO;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
 import com.nextpage.backend.dto.response.StoryListResponseDTO;
 import com.nextpage.backend.result.ResultResponse;
 import com.nextpage.backend.service.MypageService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 import static com.nextpage.backend.result.ResultCode.*;
 
 @Tag(name = "Mypage", description = "Mypage 관리")
@@ -26,30 +31,55 @@ public class MypageController {
     }
 
     @Operation(summary = "내가 쓴 스토리 조회", description = "본인이 작성한 스토리를 조회합니다.")
+    @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    @Parameter(name = "size", description = "페이지 크기 (최대 100)")
     @GetMapping("/mystories")
-    public ResponseEntity<ResultResponse> getStoriesByNickname(HttpServletRequest request) {
-        List<StoryListResponseDTO> storiesByNickname = mypageService.getStoriesByNickname(request);
+    public ResponseEntity<ResultResponse> getStoriesByNickname(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<StoryListResponseDTO> storiesByNickname =
+                mypageService.getStoriesByNickname(user.nickname(), CursorRequest.of(cursor, size));
         return ResponseEntity.ok(ResultResponse.of(MYPAGE_MYSTORY_LIST_SUCCESS, storiesByNickname));
     }
 
     @Operation(summary = "북마크 목록 조회", description = "본인의 북마크 목록을 조회합니다.")
+    @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    @Parameter(name = "size", description = "페이지 크기 (최대 100)")
     @GetMapping("/bookmarks")
-    public ResponseEntity<ResultResponse> getBookmarks(HttpServletRequest request) {
-        List<BookmarkResponseDTO> bookmarks = mypageService.getBookmarks(request);
+    public ResponseEntity<ResultResponse> getBookmarks(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<BookmarkResponseDTO> bookmarks = mypageService.getBookmarks(user.id(), CursorRequest.of(cursor, size));
         return ResponseEntity.ok(ResultResponse.of(MYPAGE_BOOKMARK_LIST_SUCCESS, bookmarks));
     }
 
     @Operation(summary = "북마크 추가", description = "스토리를 북마크에 추가합니다.")
     @PostMapping("/bookmarks/{storyId}")
-    public ResponseEntity<ResultResponse> addBookmark(HttpServletRequest request, @PathVariable Long storyId) {
-        mypageService.addBookmark(request, storyId);
+    public ResponseEntity<ResultResponse> addBookmark(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user, @PathVariable Long storyId) {
+        mypageService.addBookmark(user.id(), storyId);
         return ResponseEntity.ok(ResultResponse.of(MYPAGE_BOOKMARK_ADD_SUCCESS));
     }
 
     @Operation(summary = "북마크 삭제", description = "스토리를 북마크에서 삭제합니다.")
     @DeleteMapping("/bookmarks/{storyId}")
-    public ResponseEntity<ResultResponse> deleteBookmark(HttpServletRequest request, @PathVariable Long storyId) {
-        mypageService.deleteBookmark(request, storyId);
+    public ResponseEntity<ResultResponse> deleteBookmark(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user, @PathVariable Long storyId) {
+        mypageService.deleteBookmark(user.id(), storyId);
         return ResponseEntity.ok(ResultResponse.of(MYPAGE_BOOKMARK_DELETE_SUCCESS));
     }
+
+    @Operation(summary = "북마크 일괄 추가", description = "여러 스토리를 한 번에 북마크에 추가합니다. 이미 추가했거나 존재하지 않는 스토리는 건너뜁니다.")
+    @PostMapping("/bookmarks")
+    public ResponseEntity<ResultResponse> addBookmarks(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+                                                       @RequestBody @Valid BookmarkBulkRequest request) {
+        BookmarkBulkResponseDTO result = mypageService.addBookmarks(user.id(), request.getStoryIds());
+        return ResponseEntity.ok(ResultResponse.of(MYPAGE_BOOKMARK_BULK_ADD_SUCCESS, result));
+    }
+
+    @Operation(summary = "북마크 일괄 삭제", description = "여러 스토리를 한 번에 북마크에서 삭제합니다.")
+    @DeleteMapping("/bookmarks")
+    public ResponseEntity<ResultResponse> deleteBookmarks(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+                                                          @RequestBody @Valid BookmarkBulkRequest request) {
+        BookmarkBulkResponseDTO result = mypageService.deleteBookmarks(user.id(), request.getStoryIds());
+        return ResponseEntity.ok(ResultResponse.of(MYPAGE_BOOKMARK_BULK_DELETE_SUCCESS, result));
+    }
 }
@@ -0,0 +1,129 @@
+package com.nextpage.backend.controller;
+
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.ErrorResponse;
+import com.nextpage.backend.error.exception.BusinessException;
+import com.nextpage.backend.result.ResultResponse;
+import com.nextpage.backend.service.ReactiveStoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.nextpage.backend.result.ResultCode.*;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 스토리 읽기 API의 WebFlux 함수형 라우트 - StoryController와 같은 경로/응답을 /api/v2/reactive/stories 아래에 제공
+ * 목록 응답은 Accept: application/x-ndjson 이면 요소를 한 줄씩 스트리밍하고, 아니면 기존과 같은 ResultResponse로 감싸 응답한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+@Component
+public class ReactiveStoryHandler {
+    public static final String PATH_PREFIX = "/api/v2/reactive/stories";
+
+    private final ReactiveStoryService reactiveStoryService;
+
+    public ReactiveStoryHandler(ReactiveStoryService reactiveStoryService) {
+        this.reactiveStoryService = reactiveStoryService;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return route()
+                .path(PATH_PREFIX, builder -> builder
+                        .GET("", this::getRootStories)
+                        .GET("/details/{storyId}", this::getStoryDetails)
+                        .GET("/branch/{storyId}", this::getStoriesByleafId)
+                        .GET("/{rootId}", this::getStoriesByRootId))
+                // 핸들러에서 동기적으로 던진 예외(잘못된 커서 등)도 같은 오류 응답으로 바꾸도록 defer
+                .filter((request, next) -> Mono.defer(() -> next.handle(request)).onErrorResume(this::handleError))
+                .build();
+    }
+
+    // 루트 스토리 조회
+    Mono<ServerResponse> getRootStories(ServerRequest request) {
+        CursorRequest cursor = CursorRequest.of(request.queryParam("cursor").orElse(null),
+                request.queryParam("size").map(ReactiveStoryHandler::parseInt).orElse(CursorRequest.DEFAULT_SIZE));
+        return reactiveStoryService.getRootStories(cursor)
+                .flatMap(page -> ok(ResultResponse.of(STORY_LIST_SUCCESS, page)));
+    }
+
+    // 스토리 상세 조회
+    Mono<ServerResponse> getStoryDetails(ServerRequest request) {
+        return reactiveStoryService.getStoryDetails(pathId(request, "storyId"))
+                .flatMap(details -> ok(ResultResponse.of(STORY_DETAIL_INFO_SUCCESS, details)));
+    }
+
+    // 시나리오 조회
+    Mono<ServerResponse> getStoriesByRootId(ServerRequest request) {
+        return reactiveStoryService.getStoriesByRootId(pathId(request, "rootId"))
+                .flatMap(stories -> respondList(request, stories, ScenarioResponseDTO.class));
+    }
+
+    // 특정 분기 조회
+    Mono<ServerResponse> getStoriesByleafId(ServerRequest request) {
+        return reactiveStoryService.getStoriesByleafId(pathId(request, "storyId"))
+                .flatMap(stories -> respondList(request, stories, StoryListResponseDTO.class));
+    }
+
+    // NDJSON 요청이면 한 줄에 한 요소씩 스트리밍 - 클라이언트가 읽는 속도만큼만 직렬화/전송 (배압)
+    private <T> Mono<ServerResponse> respondList(ServerRequest request, List<T> stories, Class<T> type) {
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(Flux.fromIterable(stories), type);
+        }
+        return ok(ResultResponse.of(STORY_LIST_SUCCESS, stories));
+    }
+
+    // 숫자가 아닌 파라미터는 입력 오류로 응답 (MVC의 타입 변환 실패와 같은 취급)
+    private static Long pathId(ServerRequest request, String name) {
+        try {
+            return Long.valueOf(request.pathVariable(name));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INPUT_INVALID_VALUE);
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INPUT_INVALID_VALUE);
+        }
+    }
+
+    private static Mono<ServerResponse> ok(ResultResponse body) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    // GlobalExceptionHandler와 같은 오류 응답 형식
+    private Mono<ServerResponse> handleError(Throwable e) {
+        if (e instanceof BusinessException be) {
+            ErrorCode errorCode = be.getErrorCode();
+            log.warn(e.getMessage());
+            return ServerResponse.status(errorCode.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(ErrorResponse.builder()
+                            .errorMessage(errorCode.getMessage())
+                            .businessCode(errorCode.getCode())
+                            .build());
+        }
+        log.error(e.getMessage(), e);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+}
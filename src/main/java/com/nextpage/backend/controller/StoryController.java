@@ -1,24 +1,34 @@
 package com.nextpage.backend.controller;
 
+import com.nextpage.backend.config.jwt.AuthenticatedUser;
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.request.ImageBatchRequest;
+import com.nextpage.backend.dto.request.ImageRequest;
 import com.nextpage.backend.dto.request.StorySaveRequest;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
+import com.nextpage.backend.dto.response.ImageBatchResponseDTO;
+import com.nextpage.backend.dto.response.ImageJobResponseDTO;
 import com.nextpage.backend.dto.response.RootResponseDTO;
 import com.nextpage.backend.dto.response.ScenarioResponseDTO;
 import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
 import com.nextpage.backend.dto.response.StoryListResponseDTO;
 import com.nextpage.backend.result.ResultResponse;
+import com.nextpage.backend.service.ImageJobService;
 import com.nextpage.backend.service.OpenAiService;
 import com.nextpage.backend.service.StoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.Map;
 
 import static com.nextpage.backend.result.ResultCode.*;
 
@@ -30,17 +40,22 @@ public class StoryController {
 
     private final StoryService storyService;
     private final OpenAiService openAiService;
+    private final ImageJobService imageJobService;
 
-    public StoryController(StoryService storyService, OpenAiService openAiService) {
+    public StoryController(StoryService storyService, OpenAiService openAiService, ImageJobService imageJobService) {
         this.storyService = storyService;
         this.openAiService = openAiService;
+        this.imageJobService = imageJobService;
     }
 
-    @Operation(summary = "루트 스토리 조회", description = "루트 스토리의 목록을 조회합니다.")
+    @Operation(summary = "루트 스토리 조회", description = "루트 스토리의 목록을 최신순으로 조회합니다.")
+    @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    @Parameter(name = "size", description = "페이지 크기 (최대 100)")
     @GetMapping // 루트 스토리 조회
-    public ResponseEntity<ResultResponse> getRootStories() {
-        List<RootResponseDTO> rootStoriesList = storyService.getRootStories();
-        return ResponseEntity.ok(ResultResponse.of(STORY_LIST_SUCCESS, rootStoriesList));
+    public ResponseEntity<ResultResponse> getRootStories(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<RootResponseDTO> rootStoriesPage = storyService.getRootStories(CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(ResultResponse.of(STORY_LIST_SUCCESS, rootStoriesPage));
     }
 
     @Operation(summary = "스토리 상세 조회", description = "단일 스토리의 상세 내용을 조회합니다.")
@@ -54,11 +69,11 @@ public class StoryController {
     @Operation(summary = "스토리 생성", description = "새로운 스토리를 생성합니다.")
     @PostMapping()
     public ResponseEntity<ResultResponse> createStory(@RequestBody @Valid StorySaveRequest storyRequest,
-                                                   HttpServletRequest request) {
+                                                   @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
         log.info("StorySaveRequest: {}", storyRequest);
         log.info("parentId: {}", storyRequest.getParentId());
 
-        storyService.generateStory(storyRequest, request);
+        storyService.generateStory(storyRequest, user);
         return ResponseEntity.ok(ResultResponse.of(STORY_CREATE_SUCCESS));
     }
 
@@ -70,6 +85,19 @@ public class StoryController {
         return ResponseEntity.ok(ResultResponse.of(STORY_LIST_SUCCESS, storiesByRoot));
     }
 
+    @Operation(summary = "하위 트리 스트리밍", description = "루트 기준 깊이 구간의 스토리를 한 줄씩(NDJSON) 스트리밍합니다. 순서는 보장되지 않으며 각 줄의 depth, parentId로 트리를 조립합니다.")
+    @Parameter(name = "rootId", description = "조회할 시나리오의 루트 스토리 아이디")
+    @Parameter(name = "fromDepth", description = "시작 깊이 (루트 = 0)")
+    @Parameter(name = "maxDepth", description = "마지막 깊이 (최대 100)")
+    @GetMapping(value = "/{rootId}/subtree", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSubtree(@PathVariable Long rootId,
+                                                               @RequestParam(defaultValue = "0") int fromDepth,
+                                                               @RequestParam(defaultValue = "10") int maxDepth) {
+        storyService.validateDepthRange(fromDepth, maxDepth);
+        StreamingResponseBody body = out -> storyService.writeSubtree(rootId, fromDepth, maxDepth, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "특정 분기 조회", description = "특정 분기의 스토리들을 조회합니다.")
     @Parameter(name = "storyId", description = "조회할 분기의 리프 스토리 아이디")
     @GetMapping("/branch/{storyId}") // 특정 분기 조회
@@ -80,9 +108,41 @@ public class StoryController {
 
     @Operation(summary = "이미지 생성", description = "스토리의 관련된 이미지를 생성합니다.")
     @PostMapping("/images")
-    public ResponseEntity<ResultResponse> generateImage(@RequestBody Map<String, Object> payload) {
-        String content = (String) payload.get("content");
-        String imageUrl = openAiService.generateImage(content);
+    public ResponseEntity<ResultResponse> generateImage(@RequestBody @Valid ImageRequest request) {
+        String imageUrl = openAiService.generateImage(request.getContent());
         return ResponseEntity.ok(ResultResponse.of(STORY_IMAGE_CREATE_SUCCESS, imageUrl));
     }
+
+    @Operation(summary = "이미지 후보 일괄 생성", description = "같은 내용으로 이미지 후보 여러 장을 한 번에 생성합니다.")
+    @PostMapping("/images/batch")
+    public ResponseEntity<ResultResponse> generateImages(@RequestBody @Valid ImageBatchRequest request) {
+        List<String> imageUrls = openAiService.generateImages(request.getContent(), request.getCount());
+        ImageBatchResponseDTO response = ImageBatchResponseDTO.builder()
+                .requested(request.getCount())
+                .imageUrls(imageUrls)
+                .build();
+        return ResponseEntity.ok(ResultResponse.of(STORY_IMAGE_BATCH_CREATE_SUCCESS, response));
+    }
+
+    @Operation(summary = "이미지 생성 작업 등록", description = "이미지 생성을 비동기 작업으로 등록하고 작업 아이디를 반환합니다.")
+    @PostMapping("/images/jobs")
+    public ResponseEntity<ResultResponse> submitImageJob(@RequestBody @Valid ImageRequest request) {
+        ImageJobResponseDTO job = imageJobService.submit(request.getContent());
+        return ResponseEntity.accepted().body(ResultResponse.of(STORY_IMAGE_JOB_SUBMIT_SUCCESS, job));
+    }
+
+    @Operation(summary = "이미지 생성 작업 조회", description = "이미지 생성 작업의 상태와 결과를 조회합니다.")
+    @Parameter(name = "jobId", description = "조회할 이미지 생성 작업 아이디")
+    @GetMapping("/images/jobs/{jobId}")
+    public ResponseEntity<ResultResponse> getImageJob(@PathVariable String jobId) {
+        ImageJobResponseDTO job = imageJobService.getJob(jobId);
+        return ResponseEntity.ok(ResultResponse.of(STORY_IMAGE_JOB_INFO_SUCCESS, job));
+    }
+
+    @Operation(summary = "이미지 생성 작업 구독", description = "작업이 끝나면 SSE(result 이벤트)로 결과를 전달합니다.")
+    @Parameter(name = "jobId", description = "구독할 이미지 생성 작업 아이디")
+    @GetMapping(value = "/images/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeImageJob(@PathVariable String jobId) {
+        return imageJobService.subscribe(jobId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.nextpage.backend.controller;
 
+import com.nextpage.backend.config.jwt.AuthenticatedUser;
 import com.nextpage.backend.config.jwt.TokenService;
 import com.nextpage.backend.dto.request.UserCreateRequest;
 import com.nextpage.backend.dto.response.SignUpResponseDTO;
@@ -7,10 +8,12 @@ import com.nextpage.backend.dto.response.UserResponseDTO;
 import com.nextpage.backend.result.ResultResponse;
 import com.nextpage.backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import static com.nextpage.backend.result.ResultCode.*;
@@ -34,10 +37,10 @@ public class UserController {
         return ResponseEntity.ok(ResultResponse.of(USER_CREATE_SUCCESS, user));
     }
 
-    @Operation(summary = "회원탈퇴", description = "유저를 삭제합니다. (Hard Delete)")
+    @Operation(summary = "회원탈퇴", description = "유저를 삭제합니다. (Soft Delete - 보관 기간 후 물리 삭제)")
     @DeleteMapping("/delete")
-    public ResponseEntity<ResultResponse> deleteUser(HttpServletRequest request) {
-        userService.deleteUser(request);
+    public ResponseEntity<ResultResponse> deleteUser(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        userService.deleteUser(user.id());
         return ResponseEntity.ok(ResultResponse.of(USER_DELETE_SUCCESS, null));
     }
 
@@ -51,8 +54,8 @@ public class UserController {
 
     @Operation(summary = "토큰으로 사용자 조회 API", description = "토큰을 통해 사용자 정보를 조회합니다.")
     @GetMapping("/details") // 토큰으로 사용자 조회
-    public ResponseEntity<ResultResponse> getUserByToken(HttpServletRequest request) {
-        UserResponseDTO userResponseDTO = userService.getUserInfo(request);
+    public ResponseEntity<ResultResponse> getUserByToken(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        UserResponseDTO userResponseDTO = userService.getUserInfo(user.id());
         return ResponseEntity.ok(ResultResponse.of(USER_DETAIL_INFO_SUCCESS, userResponseDTO));
     }
 }
@@ -0,0 +1,21 @@
+package com.nextpage.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookmarkBulkRequest {
+    @NotEmpty(message = "storyIds는 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 처리할 수 있습니다.")
+    private List<@NotNull Long> storyIds;
+}
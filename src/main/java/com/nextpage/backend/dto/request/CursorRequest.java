@@ -0,0 +1,59 @@
+package com.nextpage.backend.dto.request;
+
+import com.nextpage.backend.error.exception.common.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 요청
+ * 커서는 직전 페이지 마지막 항목의 (createdAt, id)를 인코딩한 문자열이며, 첫 페이지는 커서 없이 요청한다.
+ */
+@Getter
+public class CursorRequest {
+    public static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt; // 첫 페이지면 null
+    private final Long id;
+    private final int size;
+
+    private CursorRequest(LocalDateTime createdAt, Long id, int size) {
+        this.createdAt = createdAt;
+        this.id = id;
+        this.size = Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    public static CursorRequest of(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return new CursorRequest(null, null, size);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = decoded.lastIndexOf(DELIMITER);
+            return new CursorRequest(
+                    LocalDateTime.parse(decoded.substring(0, idx)),
+                    Long.parseLong(decoded.substring(idx + 1)),
+                    size);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return createdAt == null;
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public int fetchSize() {
+        return size + 1;
+    }
+}
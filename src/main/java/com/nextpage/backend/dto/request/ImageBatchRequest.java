@@ -0,0 +1,25 @@
+package com.nextpage.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageBatchRequest {
+    public static final int MAX_COUNT = 4; // 한 번에 생성하는 최대 후보 수 (DALL·E 호출 한도 / 응답 시간 기준)
+
+    @NotBlank(message = "content는 필수입니다.")
+    private String content;
+    @Schema(defaultValue = "4", description = "생성할 이미지 후보 수 (1 ~ 4)")
+    @NotNull(message = "count는 필수입니다.")
+    @Min(value = 1, message = "count는 1 이상이어야 합니다.")
+    @Max(value = MAX_COUNT, message = "count는 최대 4입니다.")
+    private Integer count;
+}
@@ -0,0 +1,14 @@
+package com.nextpage.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageRequest {
+    @NotBlank(message = "content는 필수입니다.")
+    private String content;
+}
@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -21,16 +23,18 @@ public class StorySaveRequest {
     @NotBlank(message = "content는 필수입니다.")
     private final String content;
 
-    public Story toEntity(String userNickname, String imageUrl, Story parentId) {
+    public Story toEntity(String userNickname, String imageUrl, Map<String, String> renditions, Story parentId, List<Long> path) {
         LocalDateTime now = LocalDateTime.now();
         return new Story(
                 content,
                 imageUrl,
+                renditions,
                 now,
                 now,
                 false,
                 userNickname,
-                parentId
+                parentId,
+                path
         );
     }
 }
@@ -0,0 +1,12 @@
+package com.nextpage.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class BookmarkBulkResponseDTO {
+    private int requested; // 요청한 스토리 수
+    private int affected; // 실제로 추가 / 삭제된 북마크 수 (이미 있거나 없는 스토리는 제외)
+
+}
@@ -4,6 +4,9 @@ import com.nextpage.backend.entity.Bookmark;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Builder
 @Getter
 public class BookmarkResponseDTO {
@@ -11,13 +14,23 @@ public class BookmarkResponseDTO {
     private final Long userId;
     private final Long storyId;
     private final String imageUrl;
+    private final Map<String, String> renditions;
+    private final String contentExcerpt;
+    private final String authorNickname;
+    private final Long rootId;
+    private final LocalDateTime createdAt;
 
     public static BookmarkResponseDTO of (Bookmark bookmark) {
         return BookmarkResponseDTO.builder()
                 .id(bookmark.getId())
-                .userId(bookmark.getId())
+                .userId(bookmark.getUser().getId())
                 .storyId(bookmark.getStoryId())
                 .imageUrl(bookmark.getImageUrl())
+                .renditions(bookmark.getRenditions())
+                .contentExcerpt(bookmark.getContentExcerpt())
+                .authorNickname(bookmark.getAuthorNickname())
+                .rootId(bookmark.getRootId())
+                .createdAt(bookmark.getCreatedAt())
                 .build();
     }
 }
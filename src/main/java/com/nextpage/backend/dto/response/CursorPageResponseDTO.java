@@ -0,0 +1,32 @@
+package com.nextpage.backend.dto.response;
+
+import com.nextpage.backend.dto.request.CursorRequest;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponseDTO<T> {
+    private final List<T> content;
+    private final String nextCursor; // 마지막 페이지면 null
+    private final boolean hasNext;
+
+    private CursorPageResponseDTO(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * @param fetched   CursorRequest.fetchSize() 만큼 조회한 결과
+     * @param cursorOf  항목으로부터 다음 커서를 만드는 함수
+     */
+    public static <E, T> CursorPageResponseDTO<T> of(List<E> fetched, CursorRequest request,
+                                                     Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = fetched.size() > request.getSize();
+        List<E> page = hasNext ? fetched.subList(0, request.getSize()) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponseDTO<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nextpage.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ImageBatchResponseDTO {
+    private int requested; // 요청한 후보 수
+    private List<String> imageUrls; // 생성에 성공한 이미지 (일부 실패 시 requested 보다 적음)
+}
@@ -0,0 +1,13 @@
+package com.nextpage.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ImageJobResponseDTO {
+    private String jobId;
+    private String status; // PENDING, RUNNING, SUCCEEDED, FAILED
+    private String imageUrl; // SUCCEEDED 일 때만
+    private String errorCode; // FAILED 일 때만
+}
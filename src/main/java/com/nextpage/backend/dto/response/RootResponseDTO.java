@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 public class RootResponseDTO {
@@ -12,15 +13,17 @@ public class RootResponseDTO {
     private final String userNickname;
     private final String content;
     private final String imageUrl;
+    private final Map<String, String> renditions;
     private final LocalDateTime createdAt;
 
     @Builder
-    public RootResponseDTO(Long id, String userNickname, String content, String imageUrl) {
+    public RootResponseDTO(Long id, String userNickname, String content, String imageUrl, Map<String, String> renditions, LocalDateTime createdAt) {
         this.id = id;
         this.userNickname = userNickname;
         this.content = content;
         this.imageUrl = imageUrl;
-        this.createdAt = LocalDateTime.now();
+        this.renditions = renditions;
+        this.createdAt = createdAt;
     }
 
     public static RootResponseDTO of(Story story) {
@@ -29,6 +32,8 @@ public class RootResponseDTO {
                 .userNickname(story.getUserNickname())
                 .content(story.getContent())
                 .imageUrl(story.getImageUrl())
+                .renditions(story.getRenditions())
+                .createdAt(story.getCreatedAt())
                 .build();
     }
 
@@ -3,11 +3,14 @@ package com.nextpage.backend.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Map;
+
 @AllArgsConstructor
 @Getter
 public class ScenarioResponseDTO {
     private Long id;
     private Long parentId;
     private String imageUrl;
+    private Map<String, String> renditions;
 
 }
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Builder
 @Getter
@@ -12,6 +13,7 @@ public class StoryDetailsResponseDTO {
     private Long id;
     private String content;
     private String imageUrl;
+    private Map<String, String> renditions;
     private String userNickname;
     private Long parentId;
     private List<Long> childId;
@@ -22,6 +24,7 @@ public class StoryDetailsResponseDTO {
                 .id(story.getId())
                 .content(story.getContent())
                 .imageUrl(story.getImageUrl())
+                .renditions(story.getRenditions())
                 .userNickname(story.getUserNickname())
                 .parentId(parentId)
                 .childId(childIdList)
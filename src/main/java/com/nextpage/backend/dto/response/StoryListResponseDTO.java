@@ -4,12 +4,15 @@ import com.nextpage.backend.entity.Story;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Builder
 @Getter
 public class StoryListResponseDTO {
     private Long id;
     private String content;
     private String imageUrl;
+    private Map<String, String> renditions;
     private String nickname;
 
     public static StoryListResponseDTO of(Story story) {
@@ -17,6 +20,7 @@ public class StoryListResponseDTO {
                 .id(story.getId())
                 .content(story.getContent())
                 .imageUrl(story.getImageUrl())
+                .renditions(story.getRenditions())
                 .nickname(story.getUserNickname())
                 .build();
     }
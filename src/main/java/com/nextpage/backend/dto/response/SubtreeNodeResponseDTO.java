@@ -0,0 +1,18 @@
+package com.nextpage.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 하위 트리 스트리밍(NDJSON)의 한 줄
+@AllArgsConstructor
+@Getter
+public class SubtreeNodeResponseDTO {
+    private Long id;
+    private Long parentId;
+    private int depth; // 루트 기준 깊이 (루트 = 0)
+    private String imageUrl;
+    private Map<String, String> renditions;
+
+}
@@ -3,55 +3,102 @@ package com.nextpage.backend.entity;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Entity
 @Table(name = "\"bookmarks\"")
+@SQLRestriction("\"isDeleted\" = false") // 삭제한 북마크 / 원본 스토리가 사라진 북마크는 조회에서 제외
 public class Bookmark {
+    public static final int EXCERPT_LENGTH = 100; // 카드에 표시할 본문 앞부분 길이
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "\"id\"", columnDefinition = "INT")
     private Long id;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    // 목록 조회 시 사용자 행은 필요 없으므로 지연 로딩 (getUser().getId()는 프록시에서 바로 반환)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "\"userId\"", nullable = false)
     private User user;
 
-    @Column(name = "\"storyId\"", columnDefinition = "INT", nullable = false)
+    @Column(name = "\"storyId\"", columnDefinition = "BIGINT", nullable = false)
     private Long storyId;
 
     @Column(name = "\"imageUrl\"", nullable = false)
     private String imageUrl;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "\"renditions\"", columnDefinition = "jsonb")
+    private Map<String, String> renditions;
+
+    // 스토리 스냅샷 (BookmarkSnapshotService가 스토리 변경 이벤트 / 주기적 대사로 갱신)
+    @Column(name = "\"contentExcerpt\"", length = EXCERPT_LENGTH)
+    private String contentExcerpt;
+
+    @Column(name = "\"authorNickname\"")
+    private String authorNickname;
+
+    @Column(name = "\"rootId\"", columnDefinition = "BIGINT")
+    private Long rootId;
+
+    @Column(name = "\"snapshotAt\"") // 스냅샷을 마지막으로 맞춘 시각 (스냅샷 도입 이전 북마크는 null)
+    private LocalDateTime snapshotAt;
+
     @Column(name = "\"createdAt\"", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "\"isDeleted\"", nullable = false)
     private boolean isDeleted;
 
+    @Column(name = "\"deletedAt\"") // 보관 기간이 지나면 TombstonePurgeService가 행 삭제
+    private LocalDateTime deletedAt;
+
     protected Bookmark() {
     }
 
     @Builder
-    public Bookmark(Long id, User user, Long storyId, String imageUrl, LocalDateTime createdAt, boolean isDeleted) {
+    public Bookmark(Long id, User user, Long storyId, String imageUrl, Map<String, String> renditions,
+                    String contentExcerpt, String authorNickname, Long rootId, LocalDateTime snapshotAt,
+                    LocalDateTime createdAt, boolean isDeleted) {
         this.id = id;
         this.user = user;
         this.storyId = storyId;
         this.imageUrl = imageUrl;
+        this.renditions = renditions;
+        this.contentExcerpt = contentExcerpt;
+        this.authorNickname = authorNickname;
+        this.rootId = rootId;
+        this.snapshotAt = snapshotAt;
         this.createdAt = createdAt;
         this.isDeleted = isDeleted;
     }
 
     public static Bookmark of(User user, Story story) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> path = story.getPath();
         return Bookmark.builder()
                 .user(user)
                 .storyId(story.getId())
                 .imageUrl(story.getImageUrl())
-                .createdAt(LocalDateTime.now())
+                .renditions(story.getRenditions())
+                .contentExcerpt(excerpt(story.getContent()))
+                .authorNickname(story.getUserNickname())
+                .rootId(path == null || path.isEmpty() ? story.getId() : path.get(0))
+                .snapshotAt(now)
+                .createdAt(now)
                 .isDeleted(false)
                 .build();
     }
+
+    public static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) { return content; }
+        return content.substring(0, EXCERPT_LENGTH);
+    }
 }
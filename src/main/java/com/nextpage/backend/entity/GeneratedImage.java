@@ -0,0 +1,34 @@
+package com.nextpage.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프롬프트 -> 생성 이미지(S3 URL) 영구 캐시 (ImagePromptCache)
+ * 같은 내용으로 다시 요청하면 DALL·E를 호출하지 않고 저장된 URL을 반환한다.
+ */
+@Getter
+@Entity
+@Table(name = "\"generated_images\"",
+        indexes = @Index(name = "idx_generated_images_expires_at", columnList = "\"expiresAt\""))
+public class GeneratedImage {
+
+    // 정규화한 프롬프트 + 모델 + 크기의 SHA-256 (hex)
+    @Id
+    @Column(name = "\"promptHash\"", length = 64)
+    private String promptHash;
+
+    @Column(name = "\"imageUrl\"", nullable = false, columnDefinition = "TEXT")
+    private String imageUrl;
+
+    @Column(name = "\"createdAt\"", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "\"expiresAt\"", nullable = false) // 지나면 조회에서 제외되고 ImagePromptCache가 행 삭제
+    private LocalDateTime expiresAt;
+
+    protected GeneratedImage() {
+    }
+}
@@ -1,55 +1,81 @@
 package com.nextpage.backend.entity;
 
 
+import com.nextpage.backend.entity.converter.RenditionsConverter;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.data.neo4j.core.convert.ConvertWith;
+import org.springframework.data.neo4j.core.schema.DynamicLabels;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
 import org.springframework.data.neo4j.core.schema.Relationship;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Node
 @Getter
 public class Story {
+    public static final String ROOT_LABEL = "Root";
 
-    @Id @GeneratedValue
+    // 애플리케이션에서 발급하는 시간 순 id (StoryIdGenerator) - Neo4j 내부 ID()는 재사용되므로 사용하지 않음
+    @Id @GeneratedValue(generatorRef = "storyIdGenerator")
     private Long id;
     private String userNickname;
     private String content;
     private String imageUrl;
 
+    // 렌디션 매니페스트 (예: webp_512 -> URL)
+    @ConvertWith(converter = RenditionsConverter.class)
+    private Map<String, String> renditions;
+
     // 해당 노드를 자식으로 가지는 관계 : parent
     @Relationship(type = "PARENT_OF", direction = Relationship.Direction.INCOMING)
     private Story parentId;
 
+    // 루트부터 부모까지의 조상 id (자신 제외, 루트는 빈 목록) - 생성 시 부모의 경로로 계산
+    private List<Long> path;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Boolean isDeleted;
 
+    // :Story 외의 라벨 - 부모 없이 생성된 스토리는 :Root (노드 생성과 같은 쓰기에서 붙도록 엔티티에 포함)
+    @DynamicLabels
+    private Set<String> labels = new HashSet<>();
+
     public Story() {
     }
 
-    public Story(final String content, final String imageUrl, LocalDateTime createdAt, LocalDateTime updatedAt, boolean isDeleted, String userNickname, Story parentId) {
+    public Story(final String content, final String imageUrl, Map<String, String> renditions, LocalDateTime createdAt, LocalDateTime updatedAt, boolean isDeleted, String userNickname, Story parentId, List<Long> path) {
         this.content = content;
         this.imageUrl = imageUrl;
+        this.renditions = renditions;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.isDeleted = isDeleted;
         this.userNickname = userNickname;
         this.parentId = parentId;
+        this.path = path;
+        if (parentId == null) { this.labels.add(ROOT_LABEL); }
     }
 
     @Builder
-    public Story(Long id, String content, String imageUrl, LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isDeleted, String userNickname, Story parentId) {
+    public Story(Long id, String content, String imageUrl, Map<String, String> renditions, LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isDeleted, String userNickname, Story parentId, List<Long> path) {
         this.id = id;
         this.content = content;
         this.imageUrl = imageUrl;
+        this.renditions = renditions;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.isDeleted = isDeleted;
         this.userNickname = userNickname;
         this.parentId = parentId;
+        this.path = path;
+        if (parentId == null) { this.labels.add(ROOT_LABEL); }
     }
 }
@@ -3,12 +3,14 @@ package com.nextpage.backend.entity;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @Table(name = "\"users\"")
+@SQLRestriction("\"isDeleted\" = false") // 탈퇴한 사용자는 조회에서 제외 (행은 TombstonePurgeService가 보관 기간 후 삭제)
 public class User {
 
     @Id
@@ -16,10 +18,11 @@ public class User {
     @Column(name = "\"id\"", columnDefinition = "INT")
     private Long id;
 
-    @Column(name = "\"email\"", unique = true, nullable = false)
+    // 유니크 제약은 탈퇴하지 않은 사용자에만 적용 (부분 유니크 인덱스, init.sql / UserSchemaMigration)
+    @Column(name = "\"email\"", nullable = false)
     private String email;
 
-    @Column(name = "\"nickname\"", unique = true, nullable = false)
+    @Column(name = "\"nickname\"", nullable = false)
     private String nickname;
 
     @Column(name = "\"createdAt\"", nullable = false)
@@ -59,4 +62,10 @@ public class User {
         this.updatedAt = LocalDateTime.now();
         return this;
     }
+
+    // 탈퇴 - updatedAt이 탈퇴 시각 (보관 기간 기준)
+    public void delete() {
+        this.isDeleted = true;
+        this.updatedAt = LocalDateTime.now();
+    }
 }
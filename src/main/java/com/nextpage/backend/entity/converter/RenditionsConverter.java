@@ -0,0 +1,47 @@
+package com.nextpage.backend.entity.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+
+import java.util.Map;
+
+/**
+ * 렌디션 매니페스트(포맷_크기 -> URL)를 Neo4j 노드에 JSON 문자열 한 개의 속성으로 저장
+ */
+public class RenditionsConverter implements Neo4jPersistentPropertyConverter<Map<String, String>> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public Value write(Map<String, String> source) {
+        if (source == null || source.isEmpty()) {
+            return Values.NULL;
+        }
+        try {
+            return Values.value(OBJECT_MAPPER.writeValueAsString(source));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("렌디션 매니페스트 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Map<String, String> read(Value source) {
+        return fromValue(source);
+    }
+
+    // 커스텀 Cypher 프로젝션에서도 같은 형식으로 읽기 위해 공개
+    public static Map<String, String> fromValue(Value source) {
+        if (source == null || source.isNull()) {
+            return Map.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(source.asString(), TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("렌디션 매니페스트 역직렬화 실패", e);
+        }
+    }
+}
@@ -10,10 +10,13 @@ public enum ErrorCode {
     // Global
     INTERNAL_SERVER_ERROR(500, "G001", "서버 오류"),
     INPUT_INVALID_VALUE(409, "G002", "잘못된 입력"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "G003", "잘못된 페이지 커서"),
+    INVALID_DEPTH_RANGE(HttpStatus.BAD_REQUEST.value(), "G004", "잘못된 깊이 범위"),
 
     // Auth
     TOKEN_ACCESS_NOT_EXISTS(HttpStatus.UNAUTHORIZED.value(), "A001","토큰을 찾을 수 없음"),
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED.value(), "A002","액세스 토큰 만료"),
+    TOKEN_USER_NOT_FOUND(HttpStatus.UNAUTHORIZED.value(), "A003","탈퇴했거나 존재하지 않는 사용자의 토큰"),
 
     // Story
     STORY_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "S001", "스토리를 찾을 수 없음"),
@@ -27,12 +30,16 @@ public enum ErrorCode {
     OPENAI_CLIENT_ERROR(HttpStatus.BAD_REQUEST.value(), "O001", "OpenAI 클라이언트 오류"),
     OPENAI_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "O002", "OpenAI 서버 오류"),
     OPENAI_INVALID_RESPONSE(HttpStatus.BAD_GATEWAY.value(), "O003", "OpenAI 응답 오류"),
+    OPENAI_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS.value(), "O004", "OpenAI 호출 한도 초과"),
+    OPENAI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE.value(), "O005", "OpenAI 일시적 사용 불가"),
 
     // Image
     IMAGE_DOWNLOAD_ERROR(HttpStatus.BAD_REQUEST.value(), "I001", "이미지 다운로드 실패"),
     IMAGE_RESIZE_ERROR(HttpStatus.BAD_REQUEST.value(), "I002", "이미지 리사이징 실패"),
     IMAGE_CONVERSION_ERROR(HttpStatus.BAD_REQUEST.value(), "I003", "Webp 변환 실패"),
     IMAGE_UPLOAD_ERROR(HttpStatus.BAD_REQUEST.value(), "I004", "이미지 S3 업로드 실패"),
+    IMAGE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "I005", "이미지 생성 작업을 찾을 수 없음"),
+    IMAGE_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE.value(), "I006", "이미지 생성 대기열 초과"),
 
     // Bookmark
     BOOKMARK_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "B001", "북마크 목록을 찾을 수 없음");
@@ -4,6 +4,7 @@ import com.nextpage.backend.error.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -40,4 +41,12 @@ public class GlobalExceptionHandler {
         log.warn(e.getMessage());
         return ResponseEntity.status(INPUT_INVALID_VALUE.getStatus()).body(response);
     }
+
+    // 본문이 JSON이 아니거나 필드 타입이 맞지 않는 경우 (예: content에 객체) - 500 대신 입력 오류로 응답
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    protected ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        final ErrorResponse response = ErrorResponse.of(INPUT_INVALID_VALUE);
+        log.warn(e.getMessage());
+        return ResponseEntity.status(INPUT_INVALID_VALUE.getStatus()).body(response);
+    }
 }
@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.auth;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class TokenUserNotFoundException extends BusinessException {
+    public TokenUserNotFoundException() {
+        super(ErrorCode.TOKEN_USER_NOT_FOUND);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.common;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
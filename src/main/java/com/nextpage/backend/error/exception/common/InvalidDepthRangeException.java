@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.common;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class InvalidDepthRangeException extends BusinessException {
+    public InvalidDepthRangeException() {
+        super(ErrorCode.INVALID_DEPTH_RANGE);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.image;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class ImageJobNotFoundException extends BusinessException {
+    public ImageJobNotFoundException() {
+        super(ErrorCode.IMAGE_JOB_NOT_FOUND);
+    }
+}
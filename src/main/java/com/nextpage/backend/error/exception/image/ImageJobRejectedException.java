@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.image;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class ImageJobRejectedException extends BusinessException {
+    public ImageJobRejectedException() {
+        super(ErrorCode.IMAGE_JOB_REJECTED);
+    }
+}
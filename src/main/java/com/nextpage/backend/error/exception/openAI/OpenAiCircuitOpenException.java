@@ -0,0 +1,10 @@
+package com.nextpage.backend.error.exception.openAI;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+
+public class OpenAiCircuitOpenException extends BusinessException {
+    public OpenAiCircuitOpenException() {
+        super(ErrorCode.OPENAI_CIRCUIT_OPEN);
+    }
+}
@@ -0,0 +1,18 @@
+package com.nextpage.backend.error.exception.openAI;
+
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+import lombok.Getter;
+
+import java.time.Duration;
+
+// OpenAI 429 응답 또는 클라이언트 측 호출 한도(OpenAiCallGuard) 대기 시간 초과
+@Getter
+public class OpenAiRateLimitException extends BusinessException {
+    private final Duration retryAfter; // 응답의 Retry-After (없으면 null)
+
+    public OpenAiRateLimitException(Duration retryAfter) {
+        super(ErrorCode.OPENAI_RATE_LIMITED);
+        this.retryAfter = retryAfter;
+    }
+}
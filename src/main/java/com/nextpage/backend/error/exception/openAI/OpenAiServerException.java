@@ -2,9 +2,20 @@ package com.nextpage.backend.error.exception.openAI;
 
 import com.nextpage.backend.error.ErrorCode;
 import com.nextpage.backend.error.exception.BusinessException;
+import lombok.Getter;
 
+import java.time.Duration;
+
+@Getter
 public class OpenAiServerException extends BusinessException {
+    private final Duration retryAfter; // 응답의 Retry-After (없으면 null)
+
     public OpenAiServerException() {
+        this(null);
+    }
+
+    public OpenAiServerException(Duration retryAfter) {
         super(ErrorCode.OPENAI_SERVER_ERROR);
+        this.retryAfter = retryAfter;
     }
-}
\ No newline at end of file
+}
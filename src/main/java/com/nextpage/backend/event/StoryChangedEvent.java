@@ -0,0 +1,14 @@
+package com.nextpage.backend.event;
+
+import java.util.List;
+
+/**
+ * 스토리 내용(본문, 이미지, 작성자 닉네임 등)이 바뀌었거나 삭제되었음을 알리는 이벤트.
+ * 스토리를 수정 / 삭제하는 쪽에서 저장 후 ApplicationEventPublisher로 발행한다.
+ */
+public record StoryChangedEvent(List<Long> storyIds) {
+
+    public static StoryChangedEvent of(Long storyId) {
+        return new StoryChangedEvent(List.of(storyId));
+    }
+}
@@ -0,0 +1,17 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// JPA로 표현하기 어려운 북마크 일괄 쓰기 (JdbcTemplate 사용)
+public interface BookmarkBulkRepository {
+
+    // 여러 북마크를 한 번의 INSERT ... ON CONFLICT 로 추가하고 실제 추가된(삭제 표시에서 되살린 것 포함) 행 수 반환
+    // 이미 북마크한 스토리는 건너뜀
+    int insertIgnoringDuplicates(Long userId, Collection<BookmarkSnapshot> stories, LocalDateTime createdAt);
+
+    // 해당 스토리들을 북마크한 모든 행의 스냅샷을 한 번의 UPDATE ... FROM (VALUES ...) 로 갱신하고 갱신된 행 수 반환
+    int updateSnapshots(Collection<BookmarkSnapshot> stories, LocalDateTime snapshotAt);
+}
@@ -0,0 +1,80 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class BookmarkBulkRepositoryImpl implements BookmarkBulkRepository {
+    private static final String INSERT_PREFIX = "INSERT INTO \"bookmarks\" (\"userId\", \"storyId\", \"imageUrl\", \"renditions\", "
+            + "\"contentExcerpt\", \"authorNickname\", \"rootId\", \"snapshotAt\", \"createdAt\", \"isDeleted\") VALUES ";
+    private static final String ROW = "(?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, false)";
+    // 이미 북마크한 스토리는 ("userId", "storyId") 유니크 인덱스로 건너뜀 (멱등)
+    // 삭제 표시된 북마크는 같은 행을 되살림 - 인덱스가 삭제 행도 포함해야 하므로 부분 인덱스로 바꾸지 않음
+    private static final String ON_CONFLICT = """
+             ON CONFLICT ("userId", "storyId") DO UPDATE SET "isDeleted" = false, "deletedAt" = NULL,
+                "imageUrl" = EXCLUDED."imageUrl", "renditions" = EXCLUDED."renditions", "contentExcerpt" = EXCLUDED."contentExcerpt",
+                "authorNickname" = EXCLUDED."authorNickname", "rootId" = EXCLUDED."rootId", "snapshotAt" = EXCLUDED."snapshotAt",
+                "createdAt" = EXCLUDED."createdAt"
+            WHERE "bookmarks"."isDeleted"
+            """;
+
+    private static final String UPDATE_PREFIX = """
+            UPDATE "bookmarks" b SET "imageUrl" = coalesce(v."imageUrl", b."imageUrl"), "renditions" = v."renditions"::jsonb,
+                   "contentExcerpt" = v."contentExcerpt", "authorNickname" = v."authorNickname", "rootId" = v."rootId", "snapshotAt" = ?
+            FROM (VALUES """;
+    private static final String UPDATE_ROW = "(?::bigint, ?::text, ?::text, ?::text, ?::text, ?::bigint)";
+    // "storyId" 부분 인덱스로 해당 스토리의 (삭제되지 않은) 북마크만 찾아 갱신
+    private static final String UPDATE_SUFFIX = """
+            ) AS v("storyId", "imageUrl", "renditions", "contentExcerpt", "authorNickname", "rootId")
+            WHERE b."storyId" = v."storyId" AND b."isDeleted" = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookmarkBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(Long userId, Collection<BookmarkSnapshot> stories, LocalDateTime createdAt) {
+        if (stories.isEmpty()) { return 0; }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(stories.size(), ROW)) + ON_CONFLICT;
+        Timestamp now = Timestamp.valueOf(createdAt);
+        List<Object> args = new ArrayList<>(stories.size() * 9);
+        for (BookmarkSnapshot story : stories) {
+            args.add(userId);
+            args.add(story.storyId());
+            args.add(story.imageUrl());
+            args.add(story.renditionsJson());
+            args.add(story.contentExcerpt());
+            args.add(story.authorNickname());
+            args.add(story.rootId());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    @Override
+    public int updateSnapshots(Collection<BookmarkSnapshot> stories, LocalDateTime snapshotAt) {
+        if (stories.isEmpty()) { return 0; }
+        String sql = UPDATE_PREFIX + String.join(", ", Collections.nCopies(stories.size(), UPDATE_ROW)) + UPDATE_SUFFIX;
+        List<Object> args = new ArrayList<>(stories.size() * 6 + 1);
+        args.add(Timestamp.valueOf(snapshotAt));
+        for (BookmarkSnapshot story : stories) {
+            args.add(story.storyId());
+            args.add(story.imageUrl());
+            args.add(story.renditionsJson());
+            args.add(story.contentExcerpt());
+            args.add(story.authorNickname());
+            args.add(story.rootId());
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -1,15 +1,62 @@
 package com.nextpage.backend.repository;
 
 import com.nextpage.backend.entity.Bookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkBulkRepository {
     List<Bookmark> findByUserId(Long userId);
 
+    // 키셋 페이지네이션 - ("userId", "createdAt", "id") 부분 인덱스 사용 (삭제된 북마크는 @SQLRestriction으로 제외)
+    @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId ORDER BY b.createdAt DESC, b.id DESC")
+    List<Bookmark> findFirstPageByUserId(Long userId, Pageable pageable);
+
+    @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Bookmark> findNextPageByUserId(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+
     Optional<Bookmark> findByUserIdAndStoryId(Long userId, Long storyId);
+
+    // 조회 없이 한 번의 UPDATE로 삭제 표시하고 삭제된 행 수 반환 (다시 추가하면 같은 행을 되살림)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Bookmark b SET b.isDeleted = true, b.deletedAt = :deletedAt " +
+            "WHERE b.user.id = :userId AND b.storyId IN :storyIds AND b.isDeleted = false")
+    int softDeleteByUserIdAndStoryIdIn(Long userId, Collection<Long> storyIds, LocalDateTime deletedAt);
+
+    // 회원 탈퇴 시 해당 사용자의 북마크 전체 삭제 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE Bookmark b SET b.isDeleted = true, b.deletedAt = :deletedAt WHERE b.user.id = :userId AND b.isDeleted = false")
+    int softDeleteByUserId(Long userId, LocalDateTime deletedAt);
+
+    // 스냅샷이 없거나 staleBefore 이전에 맞춘 북마크의 스토리 id - storyId 키셋으로 배치 순회
+    @Query("SELECT DISTINCT b.storyId FROM Bookmark b WHERE b.storyId > :afterStoryId " +
+            "AND (b.snapshotAt IS NULL OR b.snapshotAt < :staleBefore) ORDER BY b.storyId")
+    List<Long> findStaleStoryIds(Long afterStoryId, LocalDateTime staleBefore, Pageable pageable);
+
+    // 원본 스토리가 사라진(또는 삭제된) 북마크 숨기기
+    @Transactional
+    @Modifying
+    @Query("UPDATE Bookmark b SET b.isDeleted = true, b.deletedAt = :deletedAt WHERE b.storyId IN :storyIds AND b.isDeleted = false")
+    int markDeletedByStoryIdIn(Collection<Long> storyIds, LocalDateTime deletedAt);
+
+    // 보관 기간이 지난 삭제 북마크를 배치 단위로 물리 삭제 - 삭제 표시 행 부분 인덱스("deletedAt") 사용
+    // @SQLRestriction은 JPQL에 적용되므로 네이티브 쿼리 사용
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM \"bookmarks\" WHERE \"id\" IN (SELECT \"id\" FROM \"bookmarks\" " +
+            "WHERE \"isDeleted\" = true AND \"deletedAt\" < :deletedBefore LIMIT :batchSize)", nativeQuery = true)
+    int purgeDeleted(LocalDateTime deletedBefore, int batchSize);
 }
@@ -0,0 +1,35 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.entity.GeneratedImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GeneratedImageRepository extends JpaRepository<GeneratedImage, String> {
+
+    // 만료되지 않은 캐시 항목의 이미지 URL
+    @Query("SELECT g.imageUrl FROM GeneratedImage g WHERE g.promptHash = :promptHash AND g.expiresAt > :now")
+    Optional<String> findImageUrl(String promptHash, LocalDateTime now);
+
+    // 같은 프롬프트가 만료 후 다시 생성된 경우 덮어씀 (조회 없이 한 문장으로)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO \"generated_images\" (\"promptHash\", \"imageUrl\", \"createdAt\", \"expiresAt\") " +
+            "VALUES (:promptHash, :imageUrl, :createdAt, :expiresAt) " +
+            "ON CONFLICT (\"promptHash\") DO UPDATE SET \"imageUrl\" = EXCLUDED.\"imageUrl\", " +
+            "\"createdAt\" = EXCLUDED.\"createdAt\", \"expiresAt\" = EXCLUDED.\"expiresAt\"", nativeQuery = true)
+    void upsert(String promptHash, String imageUrl, LocalDateTime createdAt, LocalDateTime expiresAt);
+
+    // 만료된 항목을 배치 단위로 물리 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM \"generated_images\" WHERE \"promptHash\" IN (SELECT \"promptHash\" FROM \"generated_images\" " +
+            "WHERE \"expiresAt\" <= :now LIMIT :batchSize)", nativeQuery = true)
+    int purgeExpired(LocalDateTime now, int batchSize);
+}
@@ -0,0 +1,66 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.entity.converter.RenditionsConverter;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+
+/**
+ * 스토리 프로젝션 조회의 Cypher와 결과 매핑 - 블로킹(StoryQueryRepositoryImpl) / 리액티브(ReactiveStoryQueryRepositoryImpl) 경로가 함께 사용
+ */
+public final class StoryProjections {
+
+    // 스토리 본문 + 부모 아이디 + 자식 아이디/내용 (파라미터: storyId)
+    public static final String DETAILS_CYPHER = """
+            MATCH (s:Story) WHERE s.id = $storyId AND s.isDeleted = false
+            OPTIONAL MATCH (parent:Story)-[:PARENT_OF]->(s)
+            OPTIONAL MATCH (s)-[:PARENT_OF]->(child:Story) WHERE child.isDeleted = false
+            WITH s, parent, child ORDER BY child.id
+            RETURN s.id AS id, s.content AS content, s.imageUrl AS imageUrl, s.renditions AS renditions, s.userNickname AS userNickname,
+                   parent.id AS parentId, collect(child.id) AS childIds, collect(child.content) AS childContents
+            """;
+
+    // 루트 하위 트리의 (id, parentId, imageUrl) 깊이 순 (파라미터: rootId)
+    public static final String SCENARIO_CYPHER = """
+            MATCH (root:Story) WHERE root.id = $rootId
+            MATCH path = (root)-[:PARENT_OF*0..]->(s:Story)
+            WHERE all(n IN nodes(path) WHERE n.isDeleted = false)
+            OPTIONAL MATCH (parent:Story)-[:PARENT_OF]->(s)
+            RETURN DISTINCT s.id AS id, parent.id AS parentId, s.imageUrl AS imageUrl, s.renditions AS renditions,
+                   length(path) AS depth
+            ORDER BY depth, id
+            """;
+
+    private StoryProjections() {
+    }
+
+    public static StoryDetailsResponseDTO toDetails(Record record) {
+        return StoryDetailsResponseDTO.builder()
+                .id(record.get("id").asLong())
+                .content(asNullableString(record.get("content")))
+                .imageUrl(asNullableString(record.get("imageUrl")))
+                .renditions(RenditionsConverter.fromValue(record.get("renditions")))
+                .userNickname(asNullableString(record.get("userNickname")))
+                .parentId(asNullableLong(record.get("parentId")))
+                .childId(record.get("childIds").asList(Value::asLong))
+                .childContent(record.get("childContents").asList(StoryProjections::asNullableString))
+                .build();
+    }
+
+    public static ScenarioResponseDTO toScenario(Record record) {
+        return new ScenarioResponseDTO(
+                record.get("id").asLong(),
+                asNullableLong(record.get("parentId")),
+                asNullableString(record.get("imageUrl")),
+                RenditionsConverter.fromValue(record.get("renditions")));
+    }
+
+    static Long asNullableLong(Value value) {
+        return value.isNull() ? null : value.asLong();
+    }
+
+    static String asNullableString(Value value) {
+        return value.isNull() ? null : value.asString();
+    }
+}
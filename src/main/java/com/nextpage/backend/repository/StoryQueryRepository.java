@@ -0,0 +1,34 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.SubtreeNodeResponseDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// @Query로 표현하기 어려운 프로젝션 조회 (Neo4jClient 사용)
+// 삭제 표시(isDeleted)된 스토리는 조회하지 않고, 트리 조회에서는 그 하위 트리도 함께 제외
+public interface StoryQueryRepository {
+
+    // 스토리 본문 + 부모 아이디 + 자식 아이디/내용을 한 번의 쿼리로 가져오기
+    Optional<StoryDetailsResponseDTO> findDetailsById(Long storyId);
+
+    // 루트 하위 트리의 (id, parentId, imageUrl)을 한 번의 쿼리로 가져오기 (깊이 순)
+    Collection<ScenarioResponseDTO> findScenarioByRootId(Long rootId);
+
+    // 루트 기준 깊이 [fromDepth, maxDepth] 구간의 노드를 중복 없이 한 행씩 consumer에 전달 (순서 보장 없음 - 행의 depth, parentId로 조립)
+    // 결과를 모아두지 않으므로 트리 크기와 무관하게 애플리케이션 힙 사용량이 일정함
+    void streamSubtree(Long rootId, int fromDepth, int maxDepth, Consumer<SubtreeNodeResponseDTO> consumer);
+
+    // 북마크에 복사할 스토리 정보를 한 번의 쿼리로 가져오기 (존재하지 않거나 삭제된 id는 제외)
+    List<BookmarkSnapshot> findBookmarkSnapshotsByIds(Collection<Long> storyIds);
+
+    // 북마크 카드 렌더링에 필요한 스토리 요약 - Neo4j 재조회 없이 북마크 테이블만으로 카드를 그리기 위함
+    // renditions는 Neo4j에 저장된 JSON 문자열 그대로 (Postgres jsonb로 바로 전달)
+    record BookmarkSnapshot(Long storyId, String imageUrl, String renditionsJson,
+                            String contentExcerpt, String authorNickname, Long rootId) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.nextpage.backend.repository;
+
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.SubtreeNodeResponseDTO;
+import com.nextpage.backend.entity.Bookmark;
+import com.nextpage.backend.entity.converter.RenditionsConverter;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Values;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.nextpage.backend.repository.StoryProjections.asNullableLong;
+import static com.nextpage.backend.repository.StoryProjections.asNullableString;
+
+public class StoryQueryRepositoryImpl implements StoryQueryRepository {
+    private final Neo4jClient neo4jClient;
+
+    public StoryQueryRepositoryImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Optional<StoryDetailsResponseDTO> findDetailsById(Long storyId) {
+        return neo4jClient.query(StoryProjections.DETAILS_CYPHER)
+                .bind(storyId).to("storyId")
+                .fetchAs(StoryDetailsResponseDTO.class)
+                .mappedBy((typeSystem, record) -> StoryProjections.toDetails(record))
+                .one();
+    }
+
+    @Override
+    public Collection<ScenarioResponseDTO> findScenarioByRootId(Long rootId) {
+        return neo4jClient.query(StoryProjections.SCENARIO_CYPHER)
+                .bind(rootId).to("rootId")
+                .fetchAs(ScenarioResponseDTO.class)
+                .mappedBy((typeSystem, record) -> StoryProjections.toScenario(record))
+                .all();
+    }
+
+    @Override
+    public void streamSubtree(Long rootId, int fromDepth, int maxDepth, Consumer<SubtreeNodeResponseDTO> consumer) {
+        // 가변 길이 관계의 범위는 파라미터로 받을 수 없어 검증된 정수로 직접 구성
+        // 삭제된 스토리와 그 하위 트리는 제외
+        // 트리이므로 노드마다 경로가 하나지만 DISTINCT로 한 번 더 중복 제거 (nodes(p) 반환 시의 공통 조상 중복 없음)
+        // 전역 ORDER BY는 구간 전체를 정렬한 뒤에야 첫 행을 보내므로 사용하지 않음 - 행마다 depth, parentId가 있어 순서 없이도 조립 가능
+        // DB 쪽 작업량은 깊이 구간 [fromDepth, maxDepth]로 제한 (maxDepth <= MAX_SUBTREE_DEPTH)
+        String cypher = String.format("""
+                MATCH (root:Story) WHERE root.id = $rootId AND root.isDeleted = false
+                MATCH path = (root)-[:PARENT_OF*%d..%d]->(s:Story)
+                WHERE all(n IN nodes(path) WHERE n.isDeleted = false)
+                WITH DISTINCT s, length(path) AS depth
+                OPTIONAL MATCH (parent:Story)-[:PARENT_OF]->(s)
+                RETURN s.id AS id, parent.id AS parentId, depth, s.imageUrl AS imageUrl, s.renditions AS renditions
+                """, fromDepth, maxDepth);
+        // fetch().all()은 결과를 모두 모은 뒤 반환하므로 delegateTo로 드라이버 Result를 직접 순회 (fetch size 단위로 받아옴)
+        // Neo4jClient가 넘겨주는 QueryRunner를 쓰므로 진행 중인 트랜잭션 / 북마크 관리에 그대로 참여 (read-your-writes 유지)
+        neo4jClient.delegateTo(runner -> {
+            Result result = runner.run(cypher, Values.parameters("rootId", rootId));
+            while (result.hasNext()) {
+                consumer.accept(toSubtreeNode(result.next()));
+            }
+            return Optional.empty();
+        }).run();
+    }
+
+    @Override
+    public List<BookmarkSnapshot> findBookmarkSnapshotsByIds(Collection<Long> storyIds) {
+        String cypher = """
+                MATCH (s:Story) WHERE s.id IN $storyIds AND s.isDeleted = false
+                RETURN s.id AS id, s.imageUrl AS imageUrl, s.renditions AS renditions,
+                       left(s.content, $excerptLength) AS excerpt, s.userNickname AS userNickname,
+                       coalesce(head(s.path), s.id) AS rootId
+                """;
+        return List.copyOf(neo4jClient.query(cypher)
+                .bind(storyIds).to("storyIds")
+                .bind(Bookmark.EXCERPT_LENGTH).to("excerptLength")
+                .fetchAs(BookmarkSnapshot.class)
+                .mappedBy((typeSystem, record) -> new BookmarkSnapshot(
+                        record.get("id").asLong(),
+                        asNullableString(record.get("imageUrl")),
+                        asNullableString(record.get("renditions")),
+                        asNullableString(record.get("excerpt")),
+                        asNullableString(record.get("userNickname")),
+                        record.get("rootId").asLong()))
+                .all());
+    }
+
+    private static SubtreeNodeResponseDTO toSubtreeNode(Record record) {
+        return new SubtreeNodeResponseDTO(
+                record.get("id").asLong(),
+                asNullableLong(record.get("parentId")),
+                record.get("depth").asInt(),
+                asNullableString(record.get("imageUrl")),
+                RenditionsConverter.fromValue(record.get("renditions")));
+    }
+}
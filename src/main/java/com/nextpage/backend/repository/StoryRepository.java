@@ -5,32 +5,55 @@ import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StoryRepository extends Neo4jRepository<Story,Long> {
+public interface StoryRepository extends Neo4jRepository<Story,Long>, StoryQueryRepository {
 
-    // 부모 관계가 없는 스토리(루트 스토리)를 가져오기
-    @Query("MATCH (s:Story) WHERE NOT (s)<-[:PARENT_OF]-() RETURN s")
-    List<Story> findRootStories();
+    // 삭제 표시(isDeleted)된 스토리는 모든 조회에서 제외 - (isDeleted, ...) 복합 인덱스로 살아있는 노드만 탐색 (Neo4jSchemaInitializer v3)
+
+    // 루트 스토리(:Root 라벨)를 최신순으로 가져오기 - 커서 (createdAt, id) 이후부터 (SKIP 없이 seek)
+    @Query("MATCH (s:Root) WHERE s.isDeleted = false " +
+            "AND ($createdAt IS NULL OR s.createdAt < $createdAt OR (s.createdAt = $createdAt AND s.id < $id)) " +
+            "RETURN s ORDER BY s.createdAt DESC, s.id DESC LIMIT $limit")
+    List<Story> findRootStories(LocalDateTime createdAt, Long id, int limit);
 
     // 해당 스토리의 모든 후손을 가져오기
-    @Query("MATCH p=(root:Story)-[:PARENT_OF*0..]->(child:Story) WHERE ID(root) = $rootId RETURN nodes(p)")
+    @Query("MATCH p=(root:Story)-[:PARENT_OF*0..]->(child:Story) WHERE root.id = $rootId " +
+            "AND all(n IN nodes(p) WHERE n.isDeleted = false) RETURN nodes(p)")
     List<Story> findAllChildrenByRootId(Long rootId);
 
     // 해당 스토리의 부모를 가져오기
-    @Query("MATCH (child:Story)-[:PARENT_OF]->(parent:Story) WHERE ID(parent) = $childId RETURN child")
+    @Query("MATCH (child:Story)-[:PARENT_OF]->(parent:Story) WHERE parent.id = $childId AND child.isDeleted = false RETURN child")
     Optional<Story> findParentByChildId(Long childId);
 
     // 해당 스토리의 모든 자식을 가져오기
-    @Query("MATCH (parent:Story)-[:PARENT_OF]->(child:Story) WHERE ID(parent) = $parentId RETURN child")
+    @Query("MATCH (parent:Story)-[:PARENT_OF]->(child:Story) WHERE parent.id = $parentId AND child.isDeleted = false RETURN child")
     List<Story> findChildByParentId(Long parentId);
 
-    // 특정 분기 조회를 위한 해당 스토리의 부모 재귀적으로 가져오기
-    @Query("MATCH p=(child:Story)<-[:PARENT_OF*0..]-(parent:Story) WHERE ID(child) = $storyId RETURN nodes(p)")
+    // 특정 분기 조회 - 리프에 저장된 조상 경로(path)로 루트부터 리프까지 순서대로 가져오기 (관계 순회 없음)
+    // path가 없는 스토리(보정 전)는 빈 결과, 경로 중 삭제된 스토리가 있으면 빈 결과
+    @Query("MATCH (leaf:Story) WHERE leaf.id = $storyId AND leaf.isDeleted = false " +
+            "MATCH (s:Story) WHERE s.id IN leaf.path + leaf.id " +
+            "WITH s ORDER BY size(s.path) " +
+            "WITH collect(s) AS branch WHERE all(n IN branch WHERE n.isDeleted = false) " +
+            "UNWIND branch AS s RETURN s")
+    List<Story> findBranchByLeafId(Long storyId);
+
+    // 경로 보정 전인(path 없는) 스토리의 분기 - 관계를 거슬러 루트까지 올라가며 조회 (리프 -> 루트 순)
+    // 경로가 있는 스토리는 findBranchByLeafId 결과만 사용 (삭제된 조상이 있어 빈 결과인 분기를 되살리지 않도록)
+    // 루트까지 이어진 경로 하나만 매칭하고, 경로 중 삭제된 스토리가 있으면 빈 결과
+    @Query("MATCH (child:Story) WHERE child.id = $storyId AND child.path IS NULL " +
+            "MATCH p=(child)<-[:PARENT_OF*0..]-(root:Story) WHERE NOT (:Story)-[:PARENT_OF]->(root) " +
+            "AND all(n IN nodes(p) WHERE n.isDeleted = false) " +
+            "RETURN nodes(p)")
     List<Story> findRecursivelyByLeafId(Long storyId);
 
-    @Query("MATCH (s:Story {userNickname: $nickname}) RETURN s")
-    List<Story> findStoriesByNickname(String nickname);
+    // 작성자의 스토리를 최신순으로 가져오기 - 커서 (createdAt, id) 이후부터
+    @Query("MATCH (s:Story) WHERE s.userNickname = $nickname AND s.isDeleted = false " +
+            "AND ($createdAt IS NULL OR s.createdAt < $createdAt OR (s.createdAt = $createdAt AND s.id < $id)) " +
+            "RETURN s ORDER BY s.createdAt DESC, s.id DESC LIMIT $limit")
+    List<Story> findStoriesByNickname(String nickname, LocalDateTime createdAt, Long id, int limit);
 }
@@ -2,9 +2,12 @@ package com.nextpage.backend.repository;
 
 import com.nextpage.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.nickname FROM User u WHERE u.id = :userId")
     Optional<String> findNicknameById(Long userId);
 
+    // 보관 기간이 지난 탈퇴 사용자를 배치 단위로 물리 삭제 (북마크는 FK ON DELETE CASCADE)
+    // @SQLRestriction은 JPQL에 적용되므로 네이티브 쿼리 사용
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM \"users\" WHERE \"id\" IN (SELECT \"id\" FROM \"users\" " +
+            "WHERE \"isDeleted\" = true AND \"updatedAt\" < :deletedBefore LIMIT :batchSize)", nativeQuery = true)
+    int purgeDeleted(LocalDateTime deletedBefore, int batchSize);
 }
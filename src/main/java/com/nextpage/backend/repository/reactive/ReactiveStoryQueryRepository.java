@@ -0,0 +1,16 @@
+package com.nextpage.backend.repository.reactive;
+
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// StoryQueryRepository의 프로젝션 조회 리액티브 버전 (ReactiveNeo4jClient 사용)
+public interface ReactiveStoryQueryRepository {
+
+    // 스토리 본문 + 부모 아이디 + 자식 아이디/내용 - 없거나 삭제된 스토리면 빈 Mono
+    Mono<StoryDetailsResponseDTO> findDetailsById(Long storyId);
+
+    // 루트 하위 트리의 (id, parentId, imageUrl) 깊이 순
+    Flux<ScenarioResponseDTO> findScenarioByRootId(Long rootId);
+}
@@ -0,0 +1,34 @@
+package com.nextpage.backend.repository.reactive;
+
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.repository.StoryProjections;
+import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveStoryQueryRepositoryImpl implements ReactiveStoryQueryRepository {
+    private final ReactiveNeo4jClient neo4jClient;
+
+    public ReactiveStoryQueryRepositoryImpl(ReactiveNeo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Mono<StoryDetailsResponseDTO> findDetailsById(Long storyId) {
+        return neo4jClient.query(StoryProjections.DETAILS_CYPHER)
+                .bind(storyId).to("storyId")
+                .fetchAs(StoryDetailsResponseDTO.class)
+                .mappedBy((typeSystem, record) -> StoryProjections.toDetails(record))
+                .one();
+    }
+
+    @Override
+    public Flux<ScenarioResponseDTO> findScenarioByRootId(Long rootId) {
+        return neo4jClient.query(StoryProjections.SCENARIO_CYPHER)
+                .bind(rootId).to("rootId")
+                .fetchAs(ScenarioResponseDTO.class)
+                .mappedBy((typeSystem, record) -> StoryProjections.toScenario(record))
+                .all();
+    }
+}
@@ -0,0 +1,37 @@
+package com.nextpage.backend.repository.reactive;
+
+import com.nextpage.backend.entity.Story;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+// StoryRepository의 읽기 쿼리를 리액티브 드라이버 세션으로 실행 (조회 조건은 블로킹 경로와 동일하게 유지)
+// 결과는 드라이버가 요청(request) 수만큼 Neo4j에서 당겨오므로 구독자의 배압이 쿼리 소비까지 전달됨
+@Repository
+public interface ReactiveStoryRepository extends ReactiveNeo4jRepository<Story, Long>, ReactiveStoryQueryRepository {
+
+    // 루트 스토리(:Root 라벨)를 최신순으로 가져오기 - 커서 (createdAt, id) 이후부터
+    @Query("MATCH (s:Root) WHERE s.isDeleted = false " +
+            "AND ($createdAt IS NULL OR s.createdAt < $createdAt OR (s.createdAt = $createdAt AND s.id < $id)) " +
+            "RETURN s ORDER BY s.createdAt DESC, s.id DESC LIMIT $limit")
+    Flux<Story> findRootStories(LocalDateTime createdAt, Long id, int limit);
+
+    // 특정 분기 조회 - 리프에 저장된 조상 경로(path)로 루트부터 리프까지 순서대로
+    @Query("MATCH (leaf:Story) WHERE leaf.id = $storyId AND leaf.isDeleted = false " +
+            "MATCH (s:Story) WHERE s.id IN leaf.path + leaf.id " +
+            "WITH s ORDER BY size(s.path) " +
+            "WITH collect(s) AS branch WHERE all(n IN branch WHERE n.isDeleted = false) " +
+            "UNWIND branch AS s RETURN s")
+    Flux<Story> findBranchByLeafId(Long storyId);
+
+    // 경로 보정 전인(path 없는) 스토리의 분기 - 관계를 거슬러 루트까지 올라가며 조회 (리프 -> 루트 순)
+    // 경로 중 삭제된 스토리가 있으면 빈 결과 (StoryRepository와 같은 조건)
+    @Query("MATCH (child:Story) WHERE child.id = $storyId AND child.path IS NULL " +
+            "MATCH p=(child)<-[:PARENT_OF*0..]-(root:Story) WHERE NOT (:Story)-[:PARENT_OF]->(root) " +
+            "AND all(n IN nodes(p) WHERE n.isDeleted = false) " +
+            "RETURN nodes(p)")
+    Flux<Story> findRecursivelyByLeafId(Long storyId);
+}
@@ -21,12 +21,17 @@ public enum ResultCode {
     STORY_DETAIL_INFO_SUCCESS("S002", "스토리 상세 조회 성공"),
     STORY_CREATE_SUCCESS("S003","스토리 생성 성공"),
     STORY_IMAGE_CREATE_SUCCESS("S004","이미지 생성 성공"),
+    STORY_IMAGE_JOB_SUBMIT_SUCCESS("S005","이미지 생성 작업 등록 성공"),
+    STORY_IMAGE_JOB_INFO_SUCCESS("S006","이미지 생성 작업 조회 성공"),
+    STORY_IMAGE_BATCH_CREATE_SUCCESS("S007","이미지 후보 생성 성공"),
 
     // MYPAGE
     MYPAGE_MYSTORY_LIST_SUCCESS("M001", "내가 작성한 스토리 조회 성공"),
     MYPAGE_BOOKMARK_LIST_SUCCESS("M002","나의 북마크 목록 조회 성공" ),
     MYPAGE_BOOKMARK_ADD_SUCCESS("M003","북마크 추가 성공" ),
     MYPAGE_BOOKMARK_DELETE_SUCCESS("M004","북마크 삭제 성공" ),
+    MYPAGE_BOOKMARK_BULK_ADD_SUCCESS("M005","북마크 일괄 추가 성공" ),
+    MYPAGE_BOOKMARK_BULK_DELETE_SUCCESS("M006","북마크 일괄 삭제 성공" ),
     ;
 
     private final String code;
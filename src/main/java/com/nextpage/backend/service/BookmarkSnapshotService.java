@@ -0,0 +1,79 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.event.StoryChangedEvent;
+import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
+import com.nextpage.backend.repository.StoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 북마크 테이블의 스토리 스냅샷(본문 요약, 작성자, 루트 id, 렌디션)을 Neo4j 원본과 맞춘다.
+ * - 스토리 변경 이벤트를 받으면 해당 스토리의 북마크를 바로 갱신하고
+ * - 이벤트를 거치지 않은 변경(직접 수정, 유실)과 스냅샷 도입 이전 북마크는 주기적인 대사로 보정한다.
+ */
+@Slf4j
+@Service
+public class BookmarkSnapshotService {
+    private final StoryRepository storyRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final Duration staleAfter;
+    private final int batchSize;
+
+    public BookmarkSnapshotService(StoryRepository storyRepository, BookmarkRepository bookmarkRepository,
+                                   @Value("${bookmark.snapshot.stale-after:1d}") Duration staleAfter,
+                                   @Value("${bookmark.snapshot.batch-size:500}") int batchSize) {
+        this.storyRepository = storyRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        refresh(event.storyIds());
+    }
+
+    // 스냅샷이 없거나 stale-after 보다 오래된 북마크를 storyId 순으로 배치 갱신 (여러 인스턴스에서 실행돼도 결과 동일)
+    @Scheduled(initialDelayString = "${bookmark.snapshot.reconcile-initial-delay:1m}",
+            fixedDelayString = "${bookmark.snapshot.reconcile-interval:10m}")
+    public void reconcile() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+        long afterStoryId = -1L; // 마이그레이션된 id는 0부터 시작
+        int stories = 0;
+        List<Long> storyIds;
+        do {
+            storyIds = bookmarkRepository.findStaleStoryIds(afterStoryId, staleBefore, PageRequest.of(0, batchSize));
+            if (storyIds.isEmpty()) { break; }
+            refresh(storyIds);
+            stories += storyIds.size();
+            afterStoryId = storyIds.get(storyIds.size() - 1);
+        } while (storyIds.size() == batchSize);
+        if (stories > 0) { log.info("Bookmark snapshot reconcile: {} stories refreshed", stories); }
+    }
+
+    // 스토리 조회 1회 + UPDATE 1회, Neo4j에 없거나 삭제된 스토리의 북마크는 숨김 처리
+    void refresh(Collection<Long> storyIds) {
+        if (storyIds.isEmpty()) { return; }
+        LocalDateTime now = LocalDateTime.now();
+        List<BookmarkSnapshot> snapshots = storyRepository.findBookmarkSnapshotsByIds(storyIds);
+        bookmarkRepository.updateSnapshots(snapshots, now);
+        Set<Long> missing = new HashSet<>(storyIds);
+        snapshots.forEach(snapshot -> missing.remove(snapshot.storyId()));
+        if (!missing.isEmpty()) {
+            int hidden = bookmarkRepository.markDeletedByStoryIdIn(missing, now);
+            log.info("Bookmarks of deleted stories hidden: {} stories, {} bookmarks", missing.size(), hidden);
+        }
+    }
+}
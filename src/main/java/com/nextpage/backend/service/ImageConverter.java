@@ -0,0 +1,170 @@
+package com.nextpage.backend.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 내 이미지 변환 (리사이즈 → WebP 인코딩)
+ * WebP 인코딩은 cwebp 프로세스에 stdin/stdout 파이프로 위임 - 원시 픽셀(PAM)을 넘기므로 PNG 인코딩과 임시 파일이 없음
+ * 인프로세스 인코더가 아니므로 이미지마다 cwebp 프로세스 생성 비용은 남음 (cwebp는 런타임 이미지에 설치 - Dockerfile)
+ */
+@Component
+public class ImageConverter {
+    private static final int INITIAL_BUFFER_SIZE = 256 * 1024;
+    // 이보다 커진 버퍼는 스레드에 남기지 않음 - 가장 큰 이미지 크기로 커진 배열이 풀 스레드마다 계속 남지 않도록
+    private static final int MAX_RETAINED_BUFFER_SIZE = 2 * 1024 * 1024;
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    // 렌디션 인코딩 풀(imageEncodingPool) 스레드별로 재사용하는 인코딩 버퍼 - 이미지마다 새 배열을 키우지 않도록
+    // 그 외 스레드(공용 ForkJoinPool, 가상 스레드 모드의 작업마다 새로 만드는 스레드 등)는 호출마다 새 버퍼 사용
+    private static final ThreadLocal<EncodeBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> new EncodeBuffer(INITIAL_BUFFER_SIZE));
+
+    private final ForkJoinPool imageEncodingPool;
+    private final String cwebpPath;
+    private final Duration encodeTimeout;
+
+    public ImageConverter(@Qualifier("imageEncodingPool") ForkJoinPool imageEncodingPool,
+                          @Value("${image.webp.cwebp-path:cwebp}") String cwebpPath,
+                          @Value("${image.webp.timeout:30s}") Duration encodeTimeout) {
+        this.imageEncodingPool = imageEncodingPool;
+        this.cwebpPath = cwebpPath;
+        this.encodeTimeout = encodeTimeout;
+    }
+
+    public BufferedImage resize(InputStream source, int width, int height) throws IOException {
+        return Thumbnails.of(source)
+                .size(width, height)
+                .asBufferedImage();
+    }
+
+    /**
+     * WebP로 인코딩한 결과를 버퍼에 담아 반환한다. (인코딩 풀 스레드에서는 스레드 버퍼 재사용)
+     * 반환된 버퍼는 같은 스레드에서 다음 인코딩을 호출하기 전까지만 유효하다.
+     */
+    public EncodeBuffer toWebp(BufferedImage image) throws IOException {
+        EncodeBuffer buffer = acquireBuffer();
+        // "-o -": 결과를 stdout으로, "-- -": 입력을 stdin에서 읽음
+        Process process = new ProcessBuilder(cwebpPath, "-quiet", "-o", "-", "--", "-")
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        // 제한 시간을 넘기면 프로세스를 종료 - stdout 읽기가 EOF로 풀리고 비정상 종료 코드로 실패 처리
+        process.onExit()
+                .orTimeout(encodeTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> process.destroyForcibly());
+        try {
+            // cwebp는 입력을 모두 읽은 뒤에 출력하므로 쓰기 → 읽기 순서로 처리해도 파이프가 막히지 않음
+            try (OutputStream stdin = new BufferedOutputStream(process.getOutputStream(), PIPE_BUFFER_SIZE)) {
+                writePam(image, stdin);
+            }
+            try (InputStream stdout = process.getInputStream()) {
+                stdout.transferTo(buffer);
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException("cwebp 인코딩 실패 (exit " + exitCode + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("cwebp 인코딩 중 인터럽트");
+        } finally {
+            process.destroy(); // 정상 종료한 경우 아무 일도 하지 않음
+        }
+        releaseBuffer(buffer);
+        return buffer;
+    }
+
+    /**
+     * 한 번 디코딩한 원본에서 지정 크기/포맷의 렌디션을 만든다. (webp, jpeg)
+     * 여러 스레드에서 동시에 호출되므로 결과는 스레드 버퍼에서 복사해 반환한다.
+     */
+    public byte[] encodeRendition(BufferedImage source, int size, String format) throws IOException {
+        if ("webp".equals(format)) {
+            BufferedImage resized = Thumbnails.of(source).size(size, size).asBufferedImage();
+            return toWebp(resized).toByteArray();
+        }
+        if ("jpeg".equals(format)) {
+            // JPEG은 알파 채널을 지원하지 않으므로 RGB로 변환
+            BufferedImage resized = Thumbnails.of(source).size(size, size)
+                    .imageType(BufferedImage.TYPE_INT_RGB)
+                    .asBufferedImage();
+            EncodeBuffer buffer = acquireBuffer();
+            ImageIO.write(resized, "jpg", buffer);
+            releaseBuffer(buffer);
+            return buffer.toByteArray();
+        }
+        throw new IllegalArgumentException("지원하지 않는 렌디션 포맷: " + format);
+    }
+
+    // PAM(P7) 헤더 + 원시 RGB(A) 픽셀 - 행 단위로 변환해 파이프에 씀 (전체 픽셀 배열을 따로 만들지 않음)
+    private static void writePam(BufferedImage image, OutputStream out) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean alpha = image.getColorModel().hasAlpha();
+        int depth = alpha ? 4 : 3;
+        String header = "P7\nWIDTH " + width + "\nHEIGHT " + height + "\nDEPTH " + depth
+                + "\nMAXVAL 255\nTUPLTYPE " + (alpha ? "RGB_ALPHA" : "RGB") + "\nENDHDR\n";
+        out.write(header.getBytes(StandardCharsets.US_ASCII));
+        int[] argb = new int[width];
+        byte[] row = new byte[width * depth];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, argb, 0, width);
+            int i = 0;
+            for (int pixel : argb) {
+                row[i++] = (byte) (pixel >> 16);
+                row[i++] = (byte) (pixel >> 8);
+                row[i++] = (byte) pixel;
+                if (alpha) { row[i++] = (byte) (pixel >>> 24); }
+            }
+            out.write(row);
+        }
+    }
+
+    private EncodeBuffer acquireBuffer() {
+        if (!(Thread.currentThread() instanceof ForkJoinWorkerThread worker) || worker.getPool() != imageEncodingPool) {
+            return new EncodeBuffer(INITIAL_BUFFER_SIZE);
+        }
+        EncodeBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        return buffer;
+    }
+
+    // 한도를 넘게 커진 버퍼는 스레드에서 떼어냄 (반환한 버퍼는 호출자가 계속 사용 가능, 다음 호출은 새 버퍼로 시작)
+    private static void releaseBuffer(EncodeBuffer buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFERS.remove();
+        }
+    }
+
+    public static class EncodeBuffer extends ByteArrayOutputStream {
+        EncodeBuffer(int size) {
+            super(size);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        // 내부 배열을 복사하지 않고 읽기 스트림으로 노출
+        public InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
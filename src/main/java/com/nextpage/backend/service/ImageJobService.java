@@ -0,0 +1,144 @@
+package com.nextpage.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nextpage.backend.dto.response.ImageJobResponseDTO;
+import com.nextpage.backend.error.ErrorCode;
+import com.nextpage.backend.error.exception.BusinessException;
+import com.nextpage.backend.error.exception.image.ImageJobNotFoundException;
+import com.nextpage.backend.error.exception.image.ImageJobRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 생성을 작업(job)으로 등록하고 워커 풀에서 처리한다.
+ * 요청 스레드는 작업 등록 직후 반환되며, 클라이언트는 jobId로 폴링하거나 SSE로 결과를 받는다.
+ */
+@Slf4j
+@Service
+public class ImageJobService {
+    private final OpenAiService openAiService;
+    private final TaskExecutor imageTaskExecutor;
+    private final Cache<String, ImageJob> jobs;
+    private final Duration sseTimeout;
+
+    @Autowired
+    public ImageJobService(OpenAiService openAiService,
+                           @Qualifier("imageTaskExecutor") TaskExecutor imageTaskExecutor,
+                           @Value("${image.job.retention:10m}") Duration retention,
+                           @Value("${image.job.sse-timeout:2m}") Duration sseTimeout) {
+        this(openAiService, imageTaskExecutor, retention, sseTimeout, Ticker.systemTicker());
+    }
+
+    ImageJobService(OpenAiService openAiService, TaskExecutor imageTaskExecutor, Duration retention, Duration sseTimeout,
+                    Ticker ticker) {
+        this.openAiService = openAiService;
+        this.imageTaskExecutor = imageTaskExecutor;
+        this.sseTimeout = sseTimeout;
+        // 대기 / 실행 중인 작업은 만료 / 크기 제한 대상이 아님 (개수는 워커 풀 대기열 크기로 제한됨)
+        // 완료되면 다시 put 해서 그때부터 retention 동안 결과를 보관
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new JobExpiry(retention.toNanos()))
+                .maximumWeight(10_000)
+                .weigher((String id, ImageJob job) -> job.result.isDone() ? 1 : 0)
+                .ticker(ticker)
+                .build();
+    }
+
+    public ImageJobResponseDTO submit(String content) {
+        ImageJob job = new ImageJob(UUID.randomUUID().toString());
+        try {
+            job.result = CompletableFuture.supplyAsync(() -> {
+                job.running = true;
+                return openAiService.generateImage(content);
+            }, imageTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 생성 작업 거절 (대기열 초과)");
+            throw new ImageJobRejectedException();
+        }
+        jobs.put(job.id, job);
+        job.result.whenComplete((imageUrl, e) -> jobs.put(job.id, job)); // 완료 시점부터 보관 기간 시작
+        return job.toResponse();
+    }
+
+    public ImageJobResponseDTO getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    // 작업이 끝나면 "result" 이벤트 한 번을 보내고 연결 종료
+    public SseEmitter subscribe(String jobId) {
+        ImageJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        job.result.whenComplete((imageUrl, e) -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(job.toResponse()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+        return emitter;
+    }
+
+    private ImageJob findJob(String jobId) {
+        ImageJob job = jobs.getIfPresent(jobId);
+        if (job == null) { throw new ImageJobNotFoundException(); }
+        return job;
+    }
+
+    // 완료된 작업만 retention 뒤 만료, 조회는 만료 시각을 바꾸지 않음
+    private record JobExpiry(long retentionNanos) implements Expiry<String, ImageJob> {
+        @Override
+        public long expireAfterCreate(String id, ImageJob job, long currentTime) {
+            return job.result.isDone() ? retentionNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, ImageJob job, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, ImageJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static class ImageJob {
+        private final String id;
+        private volatile boolean running;
+        private CompletableFuture<String> result;
+
+        private ImageJob(String id) {
+            this.id = id;
+        }
+
+        private ImageJobResponseDTO toResponse() {
+            ImageJobResponseDTO.ImageJobResponseDTOBuilder builder = ImageJobResponseDTO.builder().jobId(id);
+            if (!result.isDone()) {
+                return builder.status(running ? "RUNNING" : "PENDING").build();
+            }
+            try {
+                return builder.status("SUCCEEDED").imageUrl(result.join()).build();
+            } catch (CompletionException e) {
+                ErrorCode errorCode = e.getCause() instanceof BusinessException be
+                        ? be.getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+                return builder.status("FAILED").errorCode(errorCode.getCode()).build();
+            }
+        }
+    }
+}
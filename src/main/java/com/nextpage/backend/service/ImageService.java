@@ -1,49 +1,125 @@
 package com.nextpage.backend.service;
 
+import com.nextpage.backend.error.exception.BusinessException;
+import com.nextpage.backend.error.exception.image.ImageConversionException;
 import com.nextpage.backend.error.exception.image.ImageDownloadException;
 import com.nextpage.backend.error.exception.image.ImageUploadException;
-import com.sksamuel.scrimage.ImmutableImage;
-import com.sksamuel.scrimage.webp.WebpWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 public class ImageService {
+    private static final Set<String> RENDITION_FORMATS = Set.of("webp", "jpeg"); // ImageConverter.encodeRendition 지원 포맷
     private final AmazonS3 amazonS3;
+    private final ImageConverter imageConverter;
+    private final ForkJoinPool imageEncodingPool;
+    private final Executor imageUploadExecutor;
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
 
     @Value("${AWS_BUCKET}")
     private String bucketName;
 
-    public ImageService(AmazonS3 amazonS3) {
+    @Value("${image.transfer.max-image-bytes:20971520}")
+    private int maxImageBytes; // Content-Length 없는 응답의 최대 버퍼 크기 (20MB)
+
+    @Value("${image.transfer.upload-read-limit:131072}")
+    private int uploadReadLimit; // S3 업로드 재시도용 버퍼 (128KB)
+
+    @Value("${http.client.image.max-connections-per-host:20}")
+    private int maxConnectionsPerHost;
+
+    @Value("${http.client.image.response-timeout:30s}")
+    private Duration downloadTimeout;
+
+    @Value("${image.renditions.enabled:true}")
+    private boolean renditionsEnabled;
+
+    @Value("${image.renditions.sizes:128,256,512,1024}")
+    private List<Integer> renditionSizes;
+
+    @Value("${image.renditions.formats:webp,jpeg}")
+    private List<String> renditionFormats;
+
+    @Value("${image.renditions.primary:webp_512}")
+    private String primaryRendition; // Story.imageUrl 에 저장할 대표 렌디션
+
+    public ImageService(AmazonS3 amazonS3, ImageConverter imageConverter,
+                        @Qualifier("imageEncodingPool") ForkJoinPool imageEncodingPool,
+                        @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                        HttpClient imageDownloadHttpClient, MeterRegistry meterRegistry) {
         this.amazonS3 = amazonS3;
+        this.imageConverter = imageConverter;
+        this.imageEncodingPool = imageEncodingPool;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.httpClient = imageDownloadHttpClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 렌디션 설정 검증 - 크기/포맷이 비어 있거나 지원하지 않는 포맷이면 시작하지 않음
+    @PostConstruct
+    void validateRenditions() {
+        if (!renditionsEnabled) { return; }
+        if (renditionSizes.isEmpty() || renditionFormats.isEmpty()) {
+            throw new IllegalStateException("image.renditions.sizes / formats 는 비어 있을 수 없음");
+        }
+        for (int size : renditionSizes) {
+            if (size <= 0) { throw new IllegalStateException("잘못된 렌디션 크기: " + size); }
+        }
+        for (String format : renditionFormats) {
+            if (!RENDITION_FORMATS.contains(format)) { throw new IllegalStateException("지원하지 않는 렌디션 포맷: " + format); }
+        }
+        boolean primaryGenerated = renditionFormats.stream()
+                .anyMatch(format -> renditionSizes.stream().anyMatch(size -> primaryRendition.equals(format + "_" + size)));
+        if (!primaryGenerated) {
+            log.warn("image.renditions.primary={} 가 생성 대상이 아님 - 첫 렌디션을 대표 이미지로 사용", primaryRendition);
+        }
     }
 
     /**
      * Lambda 리사이즈 흐름: download → upload original (Lambda triggers resize) → return resized URL
+     * 다운로드 응답 본문을 임시 파일 없이 그대로 S3에 스트리밍한다.
      */
     public String uploadWithLambda(String imageUrl) throws ImageDownloadException, ImageUploadException {
-        File imageFile = downloadImage(imageUrl);
-        String originalKey = "dalle/" + UUID.randomUUID() + getExtension(imageFile);
-        uploadFile(bucketName, originalKey, imageFile);
+        String originalKey = "dalle/" + UUID.randomUUID() + getExtensionFromUrl(imageUrl);
+        try (RemoteImage image = openImage(imageUrl)) {
+            uploadStream(bucketName, originalKey, image.body(), image.contentLength());
+        }
         String resizedBucket = bucketName + "-resize";
         String resizedKey = "resized-" + originalKey;
         return amazonS3.getUrl(resizedBucket, resizedKey).toString();
@@ -51,63 +127,185 @@ public class ImageService {
 
     /**
      * Thumbnailator + WebP 흐름: download → resize with Thumbnailator → convert to WebP → upload → return URL
+     * 리사이즈부터 업로드까지 디스크를 거치지 않는다.
      */
     public String uploadWithThumbnailator(String imageUrl) throws ImageDownloadException, ImageUploadException {
-        File imageFile = downloadImage(imageUrl);
-        try {
-            // 리사이즈
-            BufferedImage thumb = Thumbnails.of(imageFile)
-                    .size(512, 512)
-                    .asBufferedImage();
-            File thumbPng = File.createTempFile("thumb-", ".png");
-            ImageIO.write(thumb, "png", thumbPng);
-
-            // WebP 변환
-            ImmutableImage img = ImmutableImage.loader().fromFile(thumbPng);
-            File webpFile = File.createTempFile("thumb-", ".webp");
-            img.output(WebpWriter.DEFAULT, webpFile);
-
-            // 업로드
+        try (RemoteImage image = openImage(imageUrl)) {
+            BufferedImage thumb = imageConverter.resize(image.body(), 512, 512);
+            ImageConverter.EncodeBuffer webp = imageConverter.toWebp(thumb);
+
             String key = "dalle-thumb/" + UUID.randomUUID() + ".webp";
-            uploadFile(bucketName, key, webpFile);
+            uploadStream(bucketName, key, webp.toInputStream(), webp.size());
             return amazonS3.getUrl(bucketName, key).toString();
+        } catch (ImageDownloadException | ImageUploadException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Thumbnailator flow failed", e);
             throw new ImageUploadException("Thumbnailator 흐름 실패", e);
         }
     }
 
-    private File downloadImage(String imageUrl) throws ImageDownloadException {
+    /**
+     * 스토리 이미지 저장: 렌디션 생성이 켜져 있으면 렌디션 세트, 아니면 Lambda 리사이즈 흐름
+     */
+    public StoredImage uploadStoryImage(String imageUrl) throws ImageDownloadException, ImageUploadException {
+        if (!renditionsEnabled) {
+            return new StoredImage(uploadWithLambda(imageUrl), Map.of());
+        }
+        return uploadWithRenditions(imageUrl);
+    }
+
+    /**
+     * 렌디션 흐름: download → 한 번 디코딩 → 크기 x 포맷 별 병렬 인코딩(imageEncodingPool) → 동시 업로드(imageUploadExecutor)
+     * 매니페스트 키는 "포맷_크기" (예: webp_512)
+     * 하나라도 실패하면 아직 시작하지 않은 인코딩을 취소하고, 이미 올라간 렌디션은 S3에서 지운 뒤 실패한다.
+     */
+    public StoredImage uploadWithRenditions(String imageUrl) throws ImageDownloadException, ImageUploadException {
+        BufferedImage source;
+        try (RemoteImage image = openImage(imageUrl)) {
+            source = ImageIO.read(image.body());
+        } catch (IOException e) {
+            log.error("Decode exception", e);
+            throw new ImageConversionException();
+        }
+        if (source == null) { throw new ImageConversionException(); } // 지원하지 않는 이미지 형식
+
+        String baseKey = "dalle-renditions/" + UUID.randomUUID() + "/";
+        Map<String, String> keys = new LinkedHashMap<>();
+        Map<String, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+        List<CompletableFuture<byte[]>> encodes = new CopyOnWriteArrayList<>(); // 실패 콜백이 다른 스레드에서 순회
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int size : renditionSizes) {
+            for (String format : renditionFormats) {
+                String name = format + "_" + size;
+                String key = baseKey + name + ("jpeg".equals(format) ? ".jpg" : "." + format);
+                CompletableFuture<byte[]> encode = CompletableFuture
+                        .supplyAsync(() -> encodeRendition(source, size, format), imageEncodingPool);
+                encodes.add(encode);
+                CompletableFuture<String> upload = encode.thenApplyAsync(bytes -> {
+                    uploadStream(bucketName, key, new ByteArrayInputStream(bytes), bytes.length);
+                    return amazonS3.getUrl(bucketName, key).toString();
+                }, imageUploadExecutor);
+                // 첫 실패만 기록하고 나머지 인코딩 취소 (시작 전이면 인코딩/업로드 모두 실행되지 않음, 취소로 인한 실패는 무시됨)
+                upload.whenComplete((url, e) -> {
+                    if (e != null && failure.compareAndSet(null, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e)) {
+                        encodes.forEach(f -> f.cancel(false));
+                    }
+                });
+                keys.put(name, key);
+                uploads.put(name, upload);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.values().toArray(CompletableFuture[]::new)).join(); // 진행 중인 업로드까지 모두 끝난 뒤 반환
+        } catch (CompletionException e) {
+            // 원인은 failure 에 기록됨
+        }
+        Throwable cause = failure.get();
+        if (cause != null) {
+            deleteUploaded(uploads, keys);
+            if (cause instanceof BusinessException be) { throw be; }
+            log.error("Rendition flow failed", cause);
+            throw new ImageUploadException("렌디션 생성 실패", new CompletionException(cause));
+        }
+
+        Map<String, String> manifest = new LinkedHashMap<>();
+        uploads.forEach((name, upload) -> manifest.put(name, upload.join()));
+        String primaryUrl = manifest.get(primaryRendition);
+        if (primaryUrl == null) { primaryUrl = manifest.values().iterator().next(); } // 설정 검증으로 렌디션은 하나 이상
+        return new StoredImage(primaryUrl, manifest);
+    }
+
+    // 실패한 렌디션 세트에서 이미 올라간 객체 삭제 - 삭제 실패는 원래 예외를 가리지 않도록 로그만 남김
+    private void deleteUploaded(Map<String, CompletableFuture<String>> uploads, Map<String, String> keys) {
+        String[] uploaded = uploads.entrySet().stream()
+                .filter(entry -> !entry.getValue().isCompletedExceptionally())
+                .map(entry -> keys.get(entry.getKey()))
+                .toArray(String[]::new);
+        if (uploaded.length == 0) { return; }
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(uploaded));
+        } catch (Exception e) {
+            log.warn("Failed to delete partial renditions: {}", List.of(uploaded), e);
+        }
+    }
+
+    private byte[] encodeRendition(BufferedImage source, int size, String format) {
+        try {
+            return imageConverter.encodeRendition(source, size, format);
+        } catch (IOException | RuntimeException e) {
+            log.error("Rendition encode failed: {}_{}", format, size, e);
+            throw new ImageConversionException();
+        }
+    }
+
+    public record StoredImage(String imageUrl, Map<String, String> renditions) {
+    }
+
+    /**
+     * 이미지 응답 본문을 스트림으로 연다. (디스크에 쓰지 않음)
+     * Content-Length가 없는 응답만 최대 maxImageBytes 까지 메모리에 버퍼링한다.
+     */
+    private RemoteImage openImage(String imageUrl) throws ImageDownloadException {
         log.info("Downloading image from URL: {}", imageUrl);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String host = "unknown";
+        String outcome = "error";
+        Semaphore permits = null;
+        boolean handedOff = false;
         try {
-            HttpClient client = HttpClient.newHttpClient();
+            URI uri = URI.create(imageUrl);
+            host = String.valueOf(uri.getHost());
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(imageUrl))
+                    .uri(uri)
+                    .timeout(downloadTimeout)
                     .build();
-            HttpResponse<InputStream> resp = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            // 호스트별 동시 다운로드(연결) 수 제한 - 스트리밍이 끝나 RemoteImage가 닫힐 때 반환
+            Semaphore hostPermit = hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConnectionsPerHost));
+            hostPermit.acquire();
+            permits = hostPermit;
+            HttpResponse<InputStream> resp = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
             int status = resp.statusCode();
-            if (status >= 200 && status < 300) {
-                File tmp = File.createTempFile("dalle-", getExtensionFromUrl(imageUrl));
-                try (InputStream is = resp.body(); OutputStream os = new FileOutputStream(tmp)) {
-                    is.transferTo(os);
+            outcome = (status / 100) + "xx";
+            if (status < 200 || status >= 300) {
+                resp.body().close();
+                throw new ImageDownloadException("다운로드 실패 status=" + status);
+            }
+            long contentLength = resp.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            if (contentLength >= 0) {
+                handedOff = true;
+                return new RemoteImage(resp.body(), contentLength, permits::release);
+            }
+            try (InputStream is = resp.body()) {
+                byte[] bytes = is.readNBytes(maxImageBytes + 1);
+                if (bytes.length > maxImageBytes) {
+                    throw new ImageDownloadException("이미지 크기 초과");
                 }
-                return tmp;
+                return new RemoteImage(new ByteArrayInputStream(bytes), bytes.length, () -> {});
             }
-            throw new ImageDownloadException("다운로드 실패 status=" + status);
         } catch (ImageDownloadException e) {
             throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageDownloadException("이미지 다운로드 중단");
         } catch (Exception e) {
             log.error("Download exception", e);
             throw new ImageDownloadException("이미지 다운로드 실패");
+        } finally {
+            if (permits != null && !handedOff) { permits.release(); }
+            // 응답 헤더 수신까지의 시간 (본문은 업로드와 함께 스트리밍됨)
+            sample.stop(meterRegistry.timer("image.download", "host", host, "outcome", outcome));
         }
     }
 
-    private void uploadFile(String bucket, String key, File file) throws ImageUploadException {
-        try (FileInputStream fis = new FileInputStream(file)) {
+    private void uploadStream(String bucket, String key, InputStream body, long contentLength) throws ImageUploadException {
+        try {
             ObjectMetadata meta = new ObjectMetadata();
-            meta.setContentLength(file.length());
+            meta.setContentLength(contentLength); // 길이를 알려줘야 SDK가 본문 전체를 메모리에 올리지 않음
             meta.setContentType(detectContentType(key));
-            PutObjectRequest req = new PutObjectRequest(bucket, key, file);
+            PutObjectRequest req = new PutObjectRequest(bucket, key, body, meta);
+            req.getRequestClientOptions().setReadLimit(uploadReadLimit); // 재시도용 mark/reset 버퍼 상한
             amazonS3.putObject(req);
         } catch (Exception e) {
             log.error("Upload exception", e);
@@ -115,8 +313,17 @@ public class ImageService {
         }
     }
 
-    private String getExtension(File file) {
-        return file.getName().substring(file.getName().lastIndexOf('.'));
+    private record RemoteImage(InputStream body, long contentLength, Runnable onClose) implements AutoCloseable {
+        @Override
+        public void close() {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // 이미 전송이 끝났거나 실패한 스트림
+            } finally {
+                onClose.run();
+            }
+        }
     }
 
     private String getExtensionFromUrl(String url) {
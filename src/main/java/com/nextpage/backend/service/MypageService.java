@@ -1,71 +1,79 @@
 package com.nextpage.backend.service;
 
-import com.nextpage.backend.config.jwt.TokenService;
+import com.nextpage.backend.cache.UserIdentityCache;
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.response.BookmarkBulkResponseDTO;
 import com.nextpage.backend.dto.response.BookmarkResponseDTO;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
 import com.nextpage.backend.dto.response.StoryListResponseDTO;
 import com.nextpage.backend.entity.Bookmark;
 import com.nextpage.backend.entity.Story;
-import com.nextpage.backend.entity.User;
 import com.nextpage.backend.error.exception.bookmark.BookmarkNotFoundException;
 import com.nextpage.backend.error.exception.story.StoryNotFoundException;
 import com.nextpage.backend.error.exception.user.UserNotFoundException;
 import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
 import com.nextpage.backend.repository.StoryRepository;
-import com.nextpage.backend.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @Service
 public class MypageService {
-    private final TokenService tokenService;
     private final StoryRepository storyRepository;
-    private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final UserIdentityCache userIdentityCache;
 
-    public MypageService(TokenService tokenService, StoryRepository storyRepository, UserRepository userRepository, BookmarkRepository bookmarkRepository) {
-        this.tokenService = tokenService;
+    public MypageService(StoryRepository storyRepository, BookmarkRepository bookmarkRepository, UserIdentityCache userIdentityCache) {
         this.storyRepository = storyRepository;
-        this.userRepository = userRepository;
         this.bookmarkRepository = bookmarkRepository;
+        this.userIdentityCache = userIdentityCache;
     }
 
-    public List<StoryListResponseDTO> getStoriesByNickname(HttpServletRequest request) { // 내가 작성한 스토리 조회
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-        List<Story> stories = storyRepository.findStoriesByNickname(user.getNickname());
-        return stories.stream()
-                .map(StoryListResponseDTO::of)
-                .toList();
+    public CursorPageResponseDTO<StoryListResponseDTO> getStoriesByNickname(String nickname, CursorRequest cursor) { // 내가 작성한 스토리 조회
+        List<Story> stories = storyRepository.findStoriesByNickname(nickname,
+                cursor.getCreatedAt(), cursor.getId(), cursor.fetchSize());
+        return CursorPageResponseDTO.of(stories, cursor, StoryListResponseDTO::of,
+                story -> CursorRequest.encode(story.getCreatedAt(), story.getId()));
     }
 
-    public void addBookmark(HttpServletRequest request, Long storyId) { // 북마크 추가
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-        Story story = storyRepository.findById(storyId).orElseThrow(StoryNotFoundException::new);
-        Bookmark bookmark = Bookmark.of(user, story);
-        bookmarkRepository.save(bookmark);
+    public void addBookmark(Long userId, Long storyId) { // 북마크 추가 (이미 추가한 스토리면 무시)
+        if (!userIdentityCache.exists(userId)) { throw new UserNotFoundException(); }
+        List<BookmarkSnapshot> stories = storyRepository.findBookmarkSnapshotsByIds(List.of(storyId));
+        if (stories.isEmpty()) { throw new StoryNotFoundException(); }
+        bookmarkRepository.insertIgnoringDuplicates(userId, stories, LocalDateTime.now());
     }
 
-    public List<BookmarkResponseDTO> getBookmarks(HttpServletRequest request) { // 북마크 조회
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserId(user.getId());
-        return bookmarks.stream()
-                .map(BookmarkResponseDTO::of)
-                .toList();
+    // 북마크 일괄 추가 - 스토리 조회 1회 + INSERT 1회 (존재하지 않거나 이미 추가한 스토리는 건너뜀)
+    public BookmarkBulkResponseDTO addBookmarks(Long userId, List<Long> storyIds) {
+        if (!userIdentityCache.exists(userId)) { throw new UserNotFoundException(); }
+        List<BookmarkSnapshot> stories = storyRepository.findBookmarkSnapshotsByIds(new LinkedHashSet<>(storyIds));
+        int added = bookmarkRepository.insertIgnoringDuplicates(userId, stories, LocalDateTime.now());
+        return new BookmarkBulkResponseDTO(storyIds.size(), added);
     }
 
-    public void deleteBookmark(HttpServletRequest request, Long storyId) { // 북마크 삭제
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-        Bookmark bookmark = bookmarkRepository.findByUserIdAndStoryId(user.getId(), storyId)
-                .orElseThrow(BookmarkNotFoundException::new);
-        bookmarkRepository.delete(bookmark);
+    public CursorPageResponseDTO<BookmarkResponseDTO> getBookmarks(Long userId, CursorRequest cursor) { // 북마크 조회
+        Pageable limit = PageRequest.of(0, cursor.fetchSize());
+        List<Bookmark> bookmarks = cursor.isFirstPage()
+                ? bookmarkRepository.findFirstPageByUserId(userId, limit)
+                : bookmarkRepository.findNextPageByUserId(userId, cursor.getCreatedAt(), cursor.getId(), limit);
+        return CursorPageResponseDTO.of(bookmarks, cursor, BookmarkResponseDTO::of,
+                bookmark -> CursorRequest.encode(bookmark.getCreatedAt(), bookmark.getId()));
+    }
+
+    public void deleteBookmark(Long userId, Long storyId) { // 북마크 삭제 (삭제 표시)
+        if (bookmarkRepository.softDeleteByUserIdAndStoryIdIn(userId, List.of(storyId), LocalDateTime.now()) == 0) {
+            throw new BookmarkNotFoundException();
+        }
+    }
+
+    // 북마크 일괄 삭제 - UPDATE 1회 (북마크하지 않은 스토리는 건너뜀)
+    public BookmarkBulkResponseDTO deleteBookmarks(Long userId, List<Long> storyIds) {
+        int removed = bookmarkRepository.softDeleteByUserIdAndStoryIdIn(userId, new LinkedHashSet<>(storyIds), LocalDateTime.now());
+        return new BookmarkBulkResponseDTO(storyIds.size(), removed);
     }
 }
@@ -1,52 +1,140 @@
 package com.nextpage.backend.service;
 
+import com.nextpage.backend.cache.ImagePromptCache;
 import com.nextpage.backend.error.exception.image.ImageDownloadException;
 import com.nextpage.backend.error.exception.image.ImageUploadException;
 import com.nextpage.backend.error.exception.openAI.OpenAiClientException;
 import com.nextpage.backend.error.exception.openAI.OpenAiResponseException;
+import com.nextpage.backend.error.exception.openAI.OpenAiRateLimitException;
 import com.nextpage.backend.error.exception.openAI.OpenAiServerException;
-import lombok.RequiredArgsConstructor;
+import com.nextpage.backend.service.openai.OpenAiCallGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class OpenAiService {
+    private static final String SIZE = "1024x1024";
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient openAiWebClient; // HttpClientConfig 의 풀링된 클라이언트
     private final ImageService imageService;
+    private final ImagePromptCache imagePromptCache;
+    private final OpenAiCallGuard openAiCallGuard; // 호출 한도 / 재시도 / 서킷 브레이커
+    private final Executor openAiFanOutExecutor;
+    private final Executor imageUploadExecutor;
+    private final String apiKey;
+    private final String model;
 
-    @Value("${openai.api.key}")
-    private String apiKey;
+    public OpenAiService(WebClient openAiWebClient,
+                         ImageService imageService,
+                         ImagePromptCache imagePromptCache,
+                         OpenAiCallGuard openAiCallGuard,
+                         @Qualifier("openAiFanOutExecutor") Executor openAiFanOutExecutor,
+                         @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                         @Value("${openai.api.key}") String apiKey,
+                         @Value("${openai.image.model:dall-e-2}") String model) {
+        this.openAiWebClient = openAiWebClient;
+        this.imageService = imageService;
+        this.imagePromptCache = imagePromptCache;
+        this.openAiCallGuard = openAiCallGuard;
+        this.openAiFanOutExecutor = openAiFanOutExecutor;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.apiKey = apiKey;
+        this.model = model;
+    }
 
     /**
      * 1) DALL·E에서 이미지 생성
      * 2) S3 업로드 + Lambda 리사이징
      * 3) 리사이즈된 최종 URL 반환
+     * 같은 내용(정규화 기준)의 결과가 캐시에 있거나 생성 중이면 DALL·E를 다시 호출하지 않음 (ImagePromptCache)
      */
     public String generateImage(String content) {
-        WebClient webClient = webClientBuilder.baseUrl("https://api.openai.com/v1").build();
-        Map<String, Object> requestBody = prepareRequestBody(content);
+        return imagePromptCache.get(ImagePromptCache.keyOf(model, SIZE, content), () -> upload(requestImages(content, 1).get(0)));
+    }
+
+    /**
+     * 같은 내용으로 이미지 후보 count장(최대 ImageBatchRequest.MAX_COUNT)을 한 번에 생성
+     * - n>1을 지원하는 모델(dall-e-2): DALL·E 호출 한 번으로 count장을 받음
+     * - n=1만 허용하는 모델(dall-e-3): count번의 호출을 openAiFanOutExecutor에서 병렬로 보냄 (각 호출이 OpenAiCallGuard 한도를 따로 받음)
+     * 받은 이미지는 도착하는 대로 imageUploadExecutor에서 동시에 업로드하므로 응답 시간은 한 장 생성과 비슷하다.
+     * 후보는 서로 달라야 하므로 프롬프트 캐시를 쓰지 않으며, 일부만 실패하면 성공한 이미지만 반환 (모두 실패하면 첫 오류)
+     */
+    public List<String> generateImages(String content, int count) {
+        List<CompletableFuture<String>> uploads;
+        if (supportsMultipleImages(model)) {
+            uploads = requestImages(content, count).stream()
+                    .map(dalleUrl -> CompletableFuture.supplyAsync(() -> upload(dalleUrl), imageUploadExecutor))
+                    .toList();
+        } else {
+            try {
+                uploads = IntStream.range(0, count)
+                        .mapToObj(i -> CompletableFuture
+                                .supplyAsync(() -> requestImages(content, 1).get(0), openAiFanOutExecutor)
+                                .thenApplyAsync(this::upload, imageUploadExecutor))
+                        .toList();
+            } catch (RejectedExecutionException e) { // 병렬 호출 풀 포화 - 이미 등록된 호출은 끝까지 진행
+                log.warn("DALL·E 병렬 호출 거절 (대기열 초과)");
+                throw new OpenAiRateLimitException(null);
+            }
+        }
+        return collectSucceeded(uploads);
+    }
+
+    // dall-e-3 는 요청당 n=1 만 허용
+    static boolean supportsMultipleImages(String model) {
+        return !"dall-e-3".equals(model);
+    }
+
+    private List<String> requestImages(String content, int n) {
+        Map<String, Object> requestBody = prepareRequestBody(content, n);
 
-        Map<String, Object> responseMap = webClient.post()
+        Map<String, Object> responseMap = openAiCallGuard.execute(n, () -> openAiWebClient.post()
                 .uri("/images/generations")
                 .header("Authorization", "Bearer " + apiKey)
                 .bodyValue(requestBody)
                 .exchangeToMono(this::handleResponse)
-                .block();
+                .block());
 
-        String dalleUrl = extractImageUrl(responseMap);
+        return extractImageUrls(responseMap);
+    }
 
+    private List<String> collectSucceeded(List<CompletableFuture<String>> uploads) {
+        List<String> imageUrls = new ArrayList<>(uploads.size());
+        RuntimeException firstFailure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                imageUrls.add(upload.join());
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException re ? re : e;
+                log.warn("이미지 후보 생성 실패: {}", cause.getMessage());
+                if (firstFailure == null) { firstFailure = cause; }
+            }
+        }
+        if (imageUrls.isEmpty() && firstFailure != null) { throw firstFailure; }
+        return imageUrls;
+    }
+
+    private String upload(String dalleUrl) {
         try {
             return imageService.uploadWithLambda(dalleUrl);
         } catch (ImageDownloadException | ImageUploadException e) {
@@ -55,8 +143,20 @@ public class OpenAiService {
         }
     }
 
+    // 429 / 5xx 는 OpenAiCallGuard가 재시도 (Retry-After 포함), 그 외 4xx는 바로 실패
     private Mono<Map<String, Object>> handleResponse(ClientResponse resp) {
-        if (resp.statusCode().is4xxClientError()) {
+        Duration retryAfter = OpenAiCallGuard.parseRetryAfter(resp.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        if (resp.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return resp.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .flatMap(body -> {
+                        log.warn("OpenAI 429: retry-after={} - {}", retryAfter, body);
+                        if (body.contains("insufficient_quota")) { // 요금 한도 소진 - 기다려도 풀리지 않음
+                            return Mono.error(new OpenAiClientException("OpenAI quota exceeded: " + body));
+                        }
+                        return Mono.error(new OpenAiRateLimitException(retryAfter));
+                    });
+        } else if (resp.statusCode().is4xxClientError()) {
             return resp.bodyToMono(String.class)
                     .flatMap(body -> {
                         log.error("OpenAI 4xx error: {} - {}", resp.statusCode(), body);
@@ -64,35 +164,36 @@ public class OpenAiService {
                     });
         } else if (resp.statusCode().is5xxServerError()) {
             return resp.bodyToMono(String.class)
+                    .defaultIfEmpty("") // 본문 없는 502/503도 재시도 대상이 되도록
                     .flatMap(body -> {
                         log.error("OpenAI 5xx error: {} - {}", resp.statusCode(), body);
-                        return Mono.error(new OpenAiServerException());
+                        return Mono.error(new OpenAiServerException(retryAfter));
                     });
         } else {
             return resp.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
         }
     }
 
-    private Map<String, Object> prepareRequestBody(String content) {
+    private Map<String, Object> prepareRequestBody(String content, int n) {
         String prompt = String.format(
                 "When generating an image, observe: no text in image; illustration only. %s", content
         );
         Map<String, Object> req = new HashMap<>();
         req.put("prompt", prompt);
-        req.put("n", 1);
-        req.put("size", "1024x1024");
-        req.put("model", "dall-e-2");
+        req.put("n", n);
+        req.put("size", SIZE);
+        req.put("model", model);
         return req;
     }
 
     @SuppressWarnings("unchecked")
-    private String extractImageUrl(Map<String, Object> response) {
-        if (response.containsKey("data")) {
-            List<Map<String, Object>> images = (List<Map<String, Object>>) response.get("data");
-            return images.stream()
-                    .findFirst()
+    private List<String> extractImageUrls(Map<String, Object> response) {
+        if (response != null && response.containsKey("data")) {
+            List<String> urls = ((List<Map<String, Object>>) response.get("data")).stream()
                     .map(img -> (String) img.get("url"))
-                    .orElseThrow(OpenAiResponseException::new);
+                    .filter(url -> url != null && !url.isBlank())
+                    .toList();
+            if (!urls.isEmpty()) { return urls; }
         }
         throw new OpenAiResponseException();
     }
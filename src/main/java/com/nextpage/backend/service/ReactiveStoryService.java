@@ -0,0 +1,72 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.cache.StoryCache;
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
+import com.nextpage.backend.dto.response.RootResponseDTO;
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.entity.Story;
+import com.nextpage.backend.error.exception.story.StoryNotFoundException;
+import com.nextpage.backend.repository.reactive.ReactiveStoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * StoryService 읽기 API의 논블로킹 버전 (리액티브 Neo4j 드라이버 + WebFlux 라우트, ReactiveServerConfig)
+ * 응답 형식과 캐시(StoryCache)는 블로킹 경로와 같아 두 경로를 같은 데이터로 A/B 부하 비교할 수 있다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.server.enabled", havingValue = "true")
+@Service
+public class ReactiveStoryService {
+    private final ReactiveStoryRepository reactiveStoryRepository;
+    private final StoryCache storyCache;
+
+    // 루트 스토리 목록 (createdAt 기준 최신순, 커서 페이지네이션) - 페이지 크기가 최대 100이라 모아서 한 번에 응답
+    public Mono<CursorPageResponseDTO<RootResponseDTO>> getRootStories(CursorRequest cursor) {
+        return reactiveStoryRepository.findRootStories(cursor.getCreatedAt(), cursor.getId(), cursor.fetchSize())
+                .collectList()
+                .map(rootStories -> CursorPageResponseDTO.of(rootStories, cursor, RootResponseDTO::of,
+                        story -> CursorRequest.encode(story.getCreatedAt(), story.getId())));
+    }
+
+    // 캐시 future는 같은 키의 다른 요청과 공유하므로 구독 취소가 로딩을 취소하지 않도록 함 (suppressCancel)
+    public Mono<StoryDetailsResponseDTO> getStoryDetails(Long storyId) {
+        return Mono.fromFuture(() -> storyCache.getDetailsAsync(storyId, id -> reactiveStoryRepository.findDetailsById(id)
+                .switchIfEmpty(Mono.error(StoryNotFoundException::new))
+                .toFuture()), true);
+    }
+
+    // 트리/분기는 캐시 단위가 목록 전체이므로 목록으로 반환 (요소 단위 스트리밍은 ReactiveStoryHandler에서)
+    public Mono<List<ScenarioResponseDTO>> getStoriesByRootId(Long rootId) {
+        return Mono.fromFuture(() -> storyCache.getScenarioAsync(rootId, id -> reactiveStoryRepository.findScenarioByRootId(id)
+                        .collectList()
+                        .filter(stories -> !stories.isEmpty())
+                        .switchIfEmpty(Mono.error(StoryNotFoundException::new))
+                        .toFuture()), true);
+    }
+
+    public Mono<List<StoryListResponseDTO>> getStoriesByleafId(Long leafId) {
+        return Mono.fromFuture(() -> storyCache.getBranchAsync(leafId, id -> reactiveStoryRepository.findBranchByLeafId(id) // 루트 -> 리프 순
+                        .switchIfEmpty(reactiveStoryRepository.findRecursivelyByLeafId(id) // 경로 보정 전인 스토리만 (리프 -> 루트 순)
+                                .collectList()
+                                .flatMapIterable(stories -> {
+                                    List<Story> reversed = new ArrayList<>(stories);
+                                    Collections.reverse(reversed);
+                                    return reversed;
+                                }))
+                        .map(StoryListResponseDTO::of)
+                        .collectList()
+                        .filter(stories -> !stories.isEmpty())
+                        .switchIfEmpty(Mono.error(StoryNotFoundException::new))
+                        .toFuture()), true);
+    }
+}
@@ -1,113 +1,152 @@
 package com.nextpage.backend.service;
 
-import com.nextpage.backend.config.jwt.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nextpage.backend.cache.StoryCache;
+import com.nextpage.backend.config.jwt.AuthenticatedUser;
+import com.nextpage.backend.dto.request.CursorRequest;
 import com.nextpage.backend.dto.request.StorySaveRequest;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
 import com.nextpage.backend.dto.response.RootResponseDTO;
 import com.nextpage.backend.dto.response.ScenarioResponseDTO;
 import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
 import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.dto.response.SubtreeNodeResponseDTO;
 import com.nextpage.backend.entity.Story;
+import com.nextpage.backend.error.exception.common.InvalidDepthRangeException;
 import com.nextpage.backend.error.exception.image.ImageDownloadException;
 import com.nextpage.backend.error.exception.image.ImageUploadException;
 import com.nextpage.backend.error.exception.story.StoryNotFoundException;
-import com.nextpage.backend.error.exception.user.UserNotFoundException;
 import com.nextpage.backend.repository.StoryRepository;
-import com.nextpage.backend.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class StoryService {
+    private static final int MAX_SUBTREE_DEPTH = 100;
+    private static final int SUBTREE_FLUSH_INTERVAL = 100; // 이 행 수마다 flush 해서 클라이언트가 점진적으로 렌더링
+
     private final StoryRepository storyRepository;
     private final ImageService imageService;
-    private final TokenService tokenService;
-    private final UserRepository userRepository;
-
-    // parentId가 없는 루트 스토리 목록 조회
-    public List<RootResponseDTO> getRootStories() {
-        List<Story> rootStories = storyRepository.findRootStories();
-        List<RootResponseDTO> rootStoriesList = rootStories.stream()
-                .map(RootResponseDTO::of)
-                .toList();
-        if (rootStoriesList.isEmpty()) { throw new StoryNotFoundException(); }
-        return rootStoriesList;
-    }
+    private final StoryCache storyCache;
+    private final ObjectMapper objectMapper;
 
-    public StoryDetailsResponseDTO getStoryDetails(Long storyId) {
-        Story story = storyRepository.findById(storyId)
-                .orElseThrow(StoryNotFoundException::new);
-        Long parentId = story.getParentId() != null ? story.getParentId().getId() : null;
-        return StoryDetailsResponseDTO.of(story, parentId, getChildIds(story), getChildContents(story));
+    // parentId가 없는 루트 스토리 목록 조회 (createdAt 기준 최신순, 커서 페이지네이션)
+    public CursorPageResponseDTO<RootResponseDTO> getRootStories(CursorRequest cursor) {
+        List<Story> rootStories = storyRepository.findRootStories(cursor.getCreatedAt(), cursor.getId(), cursor.fetchSize());
+        return CursorPageResponseDTO.of(rootStories, cursor, RootResponseDTO::of,
+                story -> CursorRequest.encode(story.getCreatedAt(), story.getId()));
     }
 
-    public List<Long> getChildIds(Story story) {
-        return storyRepository.findChildByParentId(story.getId()).stream().map(Story::getId).toList();
+    public StoryDetailsResponseDTO getStoryDetails(Long storyId) {
+        return storyCache.getDetails(storyId, this::loadStoryDetails);
     }
 
-    public List<String> getChildContents(Story story) {
-        return storyRepository.findChildByParentId(story.getId()).stream().map(Story::getContent).toList();
+    private StoryDetailsResponseDTO loadStoryDetails(Long storyId) {
+        return storyRepository.findDetailsById(storyId)
+                .orElseThrow(StoryNotFoundException::new);
     }
 
-    public void generateStory(StorySaveRequest request, HttpServletRequest httpServletRequest) {
-        String userNickname = getUserNickname(httpServletRequest);
-        String s3Url;
+    public void generateStory(StorySaveRequest request, AuthenticatedUser user) {
+        String userNickname = user.nickname();
+        Story parentStory = getParentById(request.getParentId()); // 이미지 업로드 전에 부모 확인
+        ImageService.StoredImage image;
         try {
-            s3Url = imageService.uploadWithLambda(request.getImageUrl());
+            image = imageService.uploadStoryImage(request.getImageUrl());
         } catch (ImageDownloadException | ImageUploadException e) {
             log.error("이미지 처리 중 오류: {}", e.getMessage(), e);
             throw new RuntimeException("이미지 처리 중 오류가 발생했습니다.", e);
         }
-        Story parentStory = getParentById(request.getParentId());
-        Story story = request.toEntity(userNickname, s3Url, parentStory);
-        storyRepository.save(story);
+        Story story = request.toEntity(userNickname, image.imageUrl(), image.renditions(), parentStory, pathOf(parentStory));
+        Story saved = storyRepository.save(story); // 루트 스토리의 :Root 라벨도 같은 쓰기에서 생성 (Story.labels)
+        storyCache.onStoryCreated(saved);
     }
 
-    private String getUserNickname(HttpServletRequest httpServletRequest) {
-        Long userId = tokenService.getUserIdFromToken(httpServletRequest);
-        return userRepository.findNicknameById(userId)
-                .orElseThrow(UserNotFoundException::new);
+    // parentId가 없거나 -1(기본값)이면 루트 스토리, 지정한 부모가 없거나 삭제됐으면 새 루트로 만들지 않고 실패
+    private Story getParentById(Long parentId) {
+        if (parentId == null || parentId < 0) { return null; }
+        return storyRepository.findById(parentId)
+                .filter(parent -> !Boolean.TRUE.equals(parent.getIsDeleted()))
+                .orElseThrow(StoryNotFoundException::new);
     }
 
-    private Story getParentById(Long parentId) {
-        return parentId != null ? storyRepository.findById(parentId).orElse(null) : null;
+    // 새 스토리의 조상 경로 = 부모의 경로 + 부모 id
+    private List<Long> pathOf(Story parent) {
+        if (parent == null) { return List.of(); }
+        List<Long> path = new ArrayList<>();
+        if (parent.getPath() != null) {
+            path.addAll(parent.getPath());
+        } else { // 경로 보정 전인 부모 - findById로 함께 로딩된 상위 관계에서 계산
+            for (Story ancestor = parent.getParentId(); ancestor != null; ancestor = ancestor.getParentId()) {
+                path.add(0, ancestor.getId());
+            }
+        }
+        path.add(parent.getId());
+        return path;
     }
 
     public List<ScenarioResponseDTO> getStoriesByRootId(Long rootId) {
-        List<Story> result = storyRepository.findAllChildrenByRootId(rootId);
-        List<ScenarioResponseDTO> stories = new ArrayList<>();
-        for (Story story : result) {
-            Long parentId = getParentId(story);
-            ScenarioResponseDTO dto = new ScenarioResponseDTO(
-                    story.getId(), parentId, story.getImageUrl()
-            );
-            stories.add(dto);
-        }
+        return storyCache.getScenario(rootId, this::loadStoriesByRootId);
+    }
+
+    private List<ScenarioResponseDTO> loadStoriesByRootId(Long rootId) {
+        List<ScenarioResponseDTO> stories = List.copyOf(storyRepository.findScenarioByRootId(rootId));
         if (stories.isEmpty()) { throw new StoryNotFoundException(); }
         return stories;
     }
 
     public List<StoryListResponseDTO> getStoriesByleafId(Long leafId) {
-        List<Story> result = storyRepository.findRecursivelyByLeafId(leafId);
+        return storyCache.getBranch(leafId, this::loadStoriesByleafId);
+    }
+
+    private List<StoryListResponseDTO> loadStoriesByleafId(Long leafId) {
+        List<Story> result = storyRepository.findBranchByLeafId(leafId); // 루트 -> 리프 순
+        if (result.isEmpty()) { // 경로 보정 전인 스토리만 관계를 거슬러 올라가며 조회 (리프 -> 루트 순), 삭제된 조상이 있으면 역시 빈 결과
+            result = new ArrayList<>(storyRepository.findRecursivelyByLeafId(leafId));
+            Collections.reverse(result);
+        }
         List<StoryListResponseDTO> stories = new ArrayList<>();
         for (Story story : result) {
             stories.add(StoryListResponseDTO.of(story));
         }
-        Collections.reverse(stories);
         if (stories.isEmpty()) { throw new StoryNotFoundException(); }
         return stories;
     }
 
-    public Long getParentId(Story story) {
-        Optional<Story> parentOpt = storyRepository.findParentByChildId(story.getId());
-        return parentOpt.map(Story::getId).orElse(null);
+    // 하위 트리 스트리밍 깊이 구간 검증 - 응답을 쓰기 시작하기 전에 호출
+    public void validateDepthRange(int fromDepth, int maxDepth) {
+        if (fromDepth < 0 || maxDepth < fromDepth || maxDepth > MAX_SUBTREE_DEPTH) {
+            throw new InvalidDepthRangeException();
+        }
+    }
+
+    // 루트 기준 깊이 [fromDepth, maxDepth] 구간의 노드를 한 줄에 하나씩 NDJSON으로 기록
+    public void writeSubtree(Long rootId, int fromDepth, int maxDepth, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(SubtreeNodeResponseDTO.class);
+        int[] written = {0};
+        try {
+            storyRepository.streamSubtree(rootId, fromDepth, maxDepth, node -> {
+                try {
+                    out.write(writer.writeValueAsBytes(node));
+                    out.write('\n');
+                    if (++written[0] % SUBTREE_FLUSH_INTERVAL == 0) { out.flush(); }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) { // 클라이언트 연결 종료 등 - 쿼리 결과 소비도 함께 중단됨
+            throw e.getCause();
+        }
+        out.flush();
     }
 }
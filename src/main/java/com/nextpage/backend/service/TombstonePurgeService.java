@@ -0,0 +1,53 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시(isDeleted)된 사용자 / 북마크 중 보관 기간이 지난 행을 물리 삭제한다.
+ * 배치마다 별도 트랜잭션으로 나눠 긴 잠금 없이 지우고, 부분 인덱스에 쌓인 삭제 행이 조회 성능에 영향을 주지 않도록 한다.
+ * Neo4j 스토리는 자식의 조상 경로(path)가 참조하므로 삭제 표시만 유지한다.
+ */
+@Slf4j
+@Service
+public class TombstonePurgeService {
+    private final UserRepository userRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    public TombstonePurgeService(UserRepository userRepository, BookmarkRepository bookmarkRepository,
+                                 @Value("${soft-delete.purge.retention:30d}") Duration retention,
+                                 @Value("${soft-delete.purge.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${soft-delete.purge.cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        int bookmarks = purgeInBatches(() -> bookmarkRepository.purgeDeleted(deletedBefore, batchSize));
+        int users = purgeInBatches(() -> userRepository.purgeDeleted(deletedBefore, batchSize));
+        log.info("Tombstone purge: {} bookmarks, {} users deleted before {}", bookmarks, users, deletedBefore);
+    }
+
+    private int purgeInBatches(IntSupplier batch) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
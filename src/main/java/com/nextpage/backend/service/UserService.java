@@ -1,5 +1,6 @@
 package com.nextpage.backend.service;
 
+import com.nextpage.backend.cache.UserIdentityCache;
 import com.nextpage.backend.config.jwt.TokenService;
 import com.nextpage.backend.dto.request.UserCreateRequest;
 import com.nextpage.backend.dto.response.SignUpResponseDTO;
@@ -7,18 +8,25 @@ import com.nextpage.backend.dto.response.UserResponseDTO;
 import com.nextpage.backend.entity.User;
 import com.nextpage.backend.error.exception.user.EmailDuplicationException;
 import com.nextpage.backend.error.exception.user.UserNotFoundException;
+import com.nextpage.backend.repository.BookmarkRepository;
 import com.nextpage.backend.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final BookmarkRepository bookmarkRepository;
     private final TokenService tokenService;
+    private final UserIdentityCache userIdentityCache;
 
-    public UserService(UserRepository userRepository, TokenService tokenService) {
+    public UserService(UserRepository userRepository, BookmarkRepository bookmarkRepository, TokenService tokenService, UserIdentityCache userIdentityCache) {
         this.userRepository = userRepository;
+        this.bookmarkRepository = bookmarkRepository;
         this.tokenService = tokenService;
+        this.userIdentityCache = userIdentityCache;
     }
 
     public SignUpResponseDTO createUser(UserCreateRequest request) {
@@ -38,20 +46,35 @@ public class UserService {
                 .orElseThrow(UserNotFoundException::new);
         user.update(nickname + "#" + user.getId());
         userRepository.save(user);
+        userIdentityCache.invalidate(id);
         return user;
     }
 
-    public void deleteUser(HttpServletRequest request) {
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
+    @Transactional
+    public void deleteUser(Long userId) { // 회원 탈퇴 (삭제 표시, 보관 기간 후 TombstonePurgeService가 물리 삭제)
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
-        userRepository.delete(user);
+        user.delete();
+        userRepository.save(user);
+        bookmarkRepository.softDeleteByUserId(userId, user.getUpdatedAt());
+        evictIdentity(userId);
+    }
+
+    // 탈퇴한 사용자의 토큰이 바로 거부되도록 (TokenService) 캐시에서 제거
+    // 커밋 전에 다른 요청이 탈퇴 전 값을 다시 읽어 캐시할 수 있으므로 커밋 후 한 번 더 제거
+    private void evictIdentity(Long userId) {
+        userIdentityCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIdentityCache.invalidate(userId);
+                }
+            });
+        }
     }
 
-    public UserResponseDTO getUserInfo(HttpServletRequest request){
-        tokenService.validateAccessToken(request); // 만료 검사
-        Long userId = tokenService.getUserIdFromToken(request);
+    public UserResponseDTO getUserInfo(Long userId){
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
         return new UserResponseDTO(user);
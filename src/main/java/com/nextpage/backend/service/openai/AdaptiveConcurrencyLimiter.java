@@ -0,0 +1,93 @@
+package com.nextpage.backend.service.openai;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 방식의 동시 호출 수 제한
+ * - 성공할 때마다 한도를 1/한도 만큼 올려 한도만큼 성공하면 +1 (additive increase)
+ * - 과부하 신호(429, 5xx, 타임아웃)를 받으면 한도를 backoffRatio 배로 줄임 (multiplicative decrease)
+ * 공급자가 실제로 처리할 수 있는 동시 요청 수 근처에서 한도가 유지된다.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("잘못된 동시성 한도 설정");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    // 한도 안에 자리가 날 때까지 최대 maxWaitNanos 대기, 시간 안에 못 얻으면 false
+    public boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) { return false; }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        release(Math.min(maxLimit, limit + 1 / limit));
+    }
+
+    public void onOverload() {
+        release(Math.max(minLimit, limit * backoffRatio));
+    }
+
+    // 과부하와 무관한 실패(잘못된 요청 등) - 한도 유지
+    public void onIgnore() {
+        release(limit);
+    }
+
+    private void release(double newLimit) {
+        lock.lock();
+        try {
+            inFlight--;
+            boolean grown = (int) newLimit > (int) limit;
+            limit = newLimit;
+            if (grown) {
+                released.signalAll();
+            } else {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
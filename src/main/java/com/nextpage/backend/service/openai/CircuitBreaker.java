@@ -0,0 +1,140 @@
+package com.nextpage.backend.service.openai;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 windowSize번 호출의 실패율로 여닫는 서킷 브레이커
+ * - CLOSED: 실패율이 failureRateThreshold(%) 이상이면 OPEN (최소 minimumCalls번 기록된 뒤부터)
+ * - OPEN: openDuration 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN: halfOpenCalls번만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] window; // true = 실패 (원형 버퍼)
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationNanos, int halfOpenCalls, LongSupplier nanoClock) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    // 호출 가능 여부 - true를 받은 호출은 onSuccess / onFailure / releasePermission 중 하나로 끝내야 함
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openDurationNanos) { return false; }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) { return false; }
+                halfOpenPermits--;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSuccesses >= halfOpenCalls) { transitionTo(State.CLOSED); }
+                return;
+            }
+            if (state == State.CLOSED) { record(false); }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                transitionTo(State.OPEN);
+                return;
+            }
+            if (state == State.OPEN) { return; } // 열리기 전에 시작한 호출의 실패
+            record(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 호출하지 않고 허가만 반납 (호출 전 대기 한도 초과 등)
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) { halfOpenPermits++; }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // CLOSED 상태의 호출 결과 기록 - 실패율이 기준 이상이면 OPEN
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) { failures--; }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) { failures++; }
+        next = (next + 1) % window.length;
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("OpenAI circuit breaker {} -> {}", state, newState);
+        state = newState;
+        switch (newState) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+            }
+        }
+    }
+}
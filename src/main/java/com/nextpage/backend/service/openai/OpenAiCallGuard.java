@@ -0,0 +1,232 @@
+package com.nextpage.backend.service.openai;
+
+import com.nextpage.backend.error.exception.openAI.OpenAiCircuitOpenException;
+import com.nextpage.backend.error.exception.openAI.OpenAiRateLimitException;
+import com.nextpage.backend.error.exception.openAI.OpenAiServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 보호 - 서킷 브레이커 → 토큰 버킷(초당 요청 수) → AIMD 동시성 한도 순으로 허가를 받은 뒤 호출하고,
+ * 429 / 5xx / 연결 오류는 지터를 섞은 지수 백오프(Retry-After가 있으면 그 값)로 재시도한다.
+ * 공급자 한도를 넘는 요청은 호출 전에 대기하거나 거절되므로 부하가 몰려도 429 폭주로 무너지지 않는다.
+ * 지표: openai.limiter.*, openai.circuit.state, openai.retries
+ */
+@Slf4j
+@Component
+public class OpenAiCallGuard {
+    private final TokenBucket tokenBucket;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RetrySettings retry;
+    private final long maxWaitNanos;
+    private final Sleeper sleeper;
+
+    private final Counter rateRejected;
+    private final Counter concurrencyRejected;
+    private final Counter circuitRejected;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OpenAiCallGuard(TokenBucket openAiTokenBucket,
+                           AdaptiveConcurrencyLimiter openAiConcurrencyLimiter,
+                           CircuitBreaker openAiCircuitBreaker,
+                           MeterRegistry meterRegistry,
+                           @Value("${openai.limiter.max-wait:10s}") Duration maxWait,
+                           @Value("${openai.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${openai.retry.base-backoff:500ms}") Duration baseBackoff,
+                           @Value("${openai.retry.max-backoff:8s}") Duration maxBackoff,
+                           @Value("${openai.retry.max-retry-after:30s}") Duration maxRetryAfter) {
+        this(openAiTokenBucket, openAiConcurrencyLimiter, openAiCircuitBreaker, meterRegistry, maxWait,
+                new RetrySettings(maxAttempts, baseBackoff, maxBackoff, maxRetryAfter),
+                duration -> TimeUnit.NANOSECONDS.sleep(duration.toNanos()));
+    }
+
+    OpenAiCallGuard(TokenBucket tokenBucket, AdaptiveConcurrencyLimiter concurrencyLimiter, CircuitBreaker circuitBreaker,
+                    MeterRegistry meterRegistry, Duration maxWait, RetrySettings retry, Sleeper sleeper) {
+        this.tokenBucket = tokenBucket;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retry = retry;
+        this.sleeper = sleeper;
+        this.rateRejected = rejected(meterRegistry, "rate");
+        this.concurrencyRejected = rejected(meterRegistry, "concurrency");
+        this.circuitRejected = rejected(meterRegistry, "circuit_open");
+        Gauge.builder("openai.limiter.tokens", tokenBucket, TokenBucket::availableTokens).register(meterRegistry);
+        Gauge.builder("openai.limiter.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("openai.limiter.concurrency.in.flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder("openai.circuit.state", circuitBreaker, cb -> cb.getState().ordinal()) // 0 CLOSED, 1 HALF_OPEN, 2 OPEN
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("openai.limiter.rejected").tag("reason", reason).register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        return execute(1, call);
+    }
+
+    /**
+     * images: 호출 한 번에 생성하는 이미지 수 - 공급자 한도가 이미지 수 기준이므로 토큰 버킷에서 그만큼 차감 (동시성 자리는 하나)
+     */
+    public <T> T execute(int images, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            acquirePermits(images);
+            T result;
+            try {
+                result = call.get();
+            } catch (RuntimeException e) {
+                Failure failure = Failure.of(e);
+                release(failure);
+                Duration delay = retryDelay(e, failure, attempt);
+                if (delay == null) { throw e; }
+                meterRegistry.counter("openai.retries", "cause", failure.tag).increment();
+                log.warn("OpenAI 호출 실패 ({}), {}ms 후 재시도 ({}/{})", failure.tag, delay.toMillis(), attempt, retry.maxAttempts());
+                sleep(delay);
+                continue;
+            }
+            concurrencyLimiter.onSuccess();
+            circuitBreaker.onSuccess();
+            return result;
+        }
+    }
+
+    private void acquirePermits(int images) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitRejected.increment();
+            throw new OpenAiCircuitOpenException();
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            long wait = tokenBucket.reserve(images, maxWaitNanos);
+            if (wait < 0) {
+                rateRejected.increment();
+                throw new OpenAiRateLimitException(null);
+            }
+            if (wait > 0) { sleep(Duration.ofNanos(wait)); }
+            long remaining = maxWaitNanos - (System.nanoTime() - start);
+            if (!concurrencyLimiter.acquire(remaining)) {
+                concurrencyRejected.increment();
+                throw new OpenAiRateLimitException(null);
+            }
+            acquired = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiServerException();
+        } finally {
+            if (!acquired) { circuitBreaker.releasePermission(); }
+        }
+    }
+
+    private void release(Failure failure) {
+        if (failure.overload) {
+            concurrencyLimiter.onOverload();
+        } else {
+            concurrencyLimiter.onIgnore();
+        }
+        if (failure.breakerFailure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess(); // 응답은 정상적으로 받음 (잘못된 요청 등)
+        }
+    }
+
+    // 재시도하지 않으면 null
+    Duration retryDelay(RuntimeException e, Failure failure, int attempt) {
+        if (!failure.retryable || attempt >= retry.maxAttempts()) { return null; }
+        Duration retryAfter = retryAfterOf(e);
+        if (retryAfter != null) {
+            if (retryAfter.compareTo(retry.maxRetryAfter()) > 0) { return null; } // 너무 오래 기다려야 하면 바로 실패
+            return retryAfter.plusMillis(ThreadLocalRandom.current().nextLong(retry.baseBackoff().toMillis() + 1));
+        }
+        // 지수 백오프 (equal jitter): 상한의 절반 + 나머지 절반 안에서 무작위 - 동시에 실패한 요청이 같은 시각에 몰리지 않도록
+        long cap = Math.min(retry.maxBackoff().toMillis(), retry.baseBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1));
+    }
+
+    private static Duration retryAfterOf(RuntimeException e) {
+        if (e instanceof OpenAiRateLimitException rle) { return rle.getRetryAfter(); }
+        if (e instanceof OpenAiServerException se) { return se.getRetryAfter(); }
+        return null;
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            sleeper.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiServerException();
+        }
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 또는 HTTP-date), 없거나 해석할 수 없으면 null
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) { return null; }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // 실패 분류 - 과부하 신호(동시성 한도 축소), 서킷 브레이커 실패, 재시도 여부
+    enum Failure {
+        RATE_LIMITED("rate_limited", true, false, true),
+        SERVER_ERROR("server_error", true, true, true),
+        IO("io", true, true, true),
+        CLIENT_ERROR("client_error", false, false, false);
+
+        private final String tag;
+        private final boolean overload;
+        private final boolean breakerFailure;
+        private final boolean retryable;
+
+        Failure(String tag, boolean overload, boolean breakerFailure, boolean retryable) {
+            this.tag = tag;
+            this.overload = overload;
+            this.breakerFailure = breakerFailure;
+            this.retryable = retryable;
+        }
+
+        static Failure of(RuntimeException e) {
+            if (e instanceof OpenAiRateLimitException) { return RATE_LIMITED; }
+            if (e instanceof OpenAiServerException) { return SERVER_ERROR; }
+            if (e instanceof WebClientRequestException) { return IO; } // 연결 실패, 응답 타임아웃
+            return CLIENT_ERROR;
+        }
+    }
+
+    record RetrySettings(int maxAttempts, Duration baseBackoff, Duration maxBackoff, Duration maxRetryAfter) {
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+}
@@ -0,0 +1,64 @@
+package com.nextpage.backend.service.openai;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 - 초당 ratePerSecond개씩 최대 capacity개까지 채워지고, 생성 이미지 한 장당 토큰 하나를 쓴다.
+ * 토큰이 없으면 다음 토큰을 미리 예약(음수 잔량)하고 그때까지의 대기 시간을 돌려주므로 대기 요청이 도착 순서대로 일정 간격으로 풀린다.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, int capacity, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public long reserve(long maxWaitNanos) {
+        return reserve(1, maxWaitNanos);
+    }
+
+    /**
+     * 토큰 permits개를 예약하고 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환한다. (0이면 바로 사용)
+     * maxWaitNanos보다 오래 기다려야 하면 예약하지 않고 -1
+     */
+    public long reserve(int permits, long maxWaitNanos) {
+        lock.lock();
+        try {
+            refill();
+            double deficit = permits - tokens;
+            long wait = deficit <= 0 ? 0 : (long) Math.ceil(deficit / tokensPerNano);
+            if (wait > maxWaitNanos) { return -1; }
+            tokens -= permits;
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 남은 토큰 수 (예약으로 음수일 수 있음)
+    public double availableTokens() {
+        lock.lock();
+        try {
+            refill();
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
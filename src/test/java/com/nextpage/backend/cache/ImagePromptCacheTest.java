@@ -0,0 +1,136 @@
+package com.nextpage.backend.cache;
+
+import com.nextpage.backend.repository.GeneratedImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImagePromptCacheTest {
+
+    @Mock
+    private GeneratedImageRepository generatedImageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImagePromptCache imagePromptCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imagePromptCache = new ImagePromptCache(generatedImageRepository, meterRegistry, Duration.ofDays(30), 1000);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("image.prompt.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시 키 -> 공백 / 대소문자 차이는 같은 키, 모델이 다르면 다른 키")
+    void keyOf_정규화() {
+        String key = ImagePromptCache.keyOf("dall-e-2", "1024x1024", "A cat  on\tthe moon");
+
+        assertThat(ImagePromptCache.keyOf("dall-e-2", "1024x1024", "  a cat on the MOON ")).isEqualTo(key);
+        assertThat(ImagePromptCache.keyOf("dall-e-3", "1024x1024", "A cat on the moon")).isNotEqualTo(key);
+        assertThat(key).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("저장된 URL이 있으면 -> 생성하지 않고 반환")
+    void get_적중() {
+        when(generatedImageRepository.findImageUrl(eq("key"), any())).thenReturn(Optional.of("stored"));
+
+        String imageUrl = imagePromptCache.get("key", () -> { throw new AssertionError("생성 호출됨"); });
+
+        assertThat(imageUrl).isEqualTo("stored");
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("미적중 -> 생성 후 TTL과 함께 저장")
+    void get_미적중_저장() {
+        when(generatedImageRepository.findImageUrl(eq("key"), any())).thenReturn(Optional.empty());
+
+        String imageUrl = imagePromptCache.get("key", () -> "generated");
+
+        assertThat(imageUrl).isEqualTo("generated");
+        verify(generatedImageRepository).upsert(eq("key"), eq("generated"), any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성 실패 -> 예외 그대로 전파, 저장하지 않음")
+    void get_생성_실패() {
+        when(generatedImageRepository.findImageUrl(eq("key"), any())).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class,
+                () -> imagePromptCache.get("key", () -> { throw new IllegalStateException("upstream"); }));
+
+        verify(generatedImageRepository, never()).upsert(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트 동시 요청 -> 생성은 한 번, 나머지는 결과 공유")
+    void get_동시_요청_병합() throws Exception {
+        when(generatedImageRepository.findImageUrl(eq("key"), any())).thenReturn(Optional.empty());
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> imagePromptCache.get("key", () -> {
+                generations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "generated";
+            }), executor);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<String> follower1 = CompletableFuture.supplyAsync(
+                    () -> imagePromptCache.get("key", () -> "duplicate"), executor);
+            CompletableFuture<String> follower2 = CompletableFuture.supplyAsync(
+                    () -> imagePromptCache.get("key", () -> "duplicate"), executor);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (requests("coalesced") < 2 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("generated");
+            assertThat(follower1.get(5, TimeUnit.SECONDS)).isEqualTo("generated");
+            assertThat(follower2.get(5, TimeUnit.SECONDS)).isEqualTo("generated");
+            assertThat(generations.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("image.prompt.cache.in.flight").gauge().value()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
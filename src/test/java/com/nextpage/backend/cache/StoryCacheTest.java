@@ -0,0 +1,129 @@
+package com.nextpage.backend.cache;
+
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.entity.Story;
+import com.nextpage.backend.error.exception.story.StoryNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StoryCacheTest {
+
+    private StoryCache storyCache;
+    private SimpleMeterRegistry meterRegistry;
+    private Story root;
+    private final AtomicLong now = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storyCache = new StoryCache(meterRegistry, Runnable::run, 100, Duration.ofMinutes(1), now::get);
+        root = story(1L, null);
+    }
+
+    private Story story(Long id, Story parent) {
+        return Story.builder()
+                .id(id)
+                .content("Content" + id)
+                .imageUrl("imageUrl" + id)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .isDeleted(false)
+                .userNickname("nickname")
+                .parentId(parent)
+                .build();
+    }
+
+    @Test
+    @DisplayName("상세 조회 -> 두 번째 조회부터 캐시 적중")
+    void getDetails_캐시_적중() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            storyCache.getDetails(1L, id -> {
+                loads.incrementAndGet();
+                return StoryDetailsResponseDTO.of(root, null, List.of(), List.of());
+            });
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "story.details").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상세 조회 -> 예외는 캐시되지 않음")
+    void getDetails_예외_미저장() {
+        assertThrows(StoryNotFoundException.class, () -> storyCache.getDetails(1L, id -> {
+            throw new StoryNotFoundException();
+        }));
+
+        StoryDetailsResponseDTO details = storyCache.getDetails(1L, id -> StoryDetailsResponseDTO.of(root, null, List.of(), List.of()));
+
+        assertThat(details.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> 부모 상세, 시나리오 무효화 및 분기 갱신")
+    void onStoryCreated_무효화() {
+        AtomicInteger loads = new AtomicInteger();
+        storyCache.getDetails(1L, id -> {
+            loads.incrementAndGet();
+            return StoryDetailsResponseDTO.of(root, null, List.of(), List.of());
+        });
+        storyCache.getScenario(1L, id -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        storyCache.getBranch(1L, id -> List.of(StoryListResponseDTO.of(root)));
+
+        Story child = story(2L, root);
+        storyCache.onStoryCreated(child);
+
+        storyCache.getDetails(1L, id -> {
+            loads.incrementAndGet();
+            return StoryDetailsResponseDTO.of(root, null, List.of(2L), List.of("Content2"));
+        });
+        storyCache.getScenario(1L, id -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        List<StoryListResponseDTO> branch = storyCache.getBranch(2L, id -> {
+            throw new IllegalStateException("분기는 캐시에서 조회되어야 함");
+        });
+        StoryDetailsResponseDTO childDetails = storyCache.getDetails(2L, id -> {
+            throw new IllegalStateException("새 스토리 상세는 캐시에서 조회되어야 함");
+        });
+
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(branch).extracting(StoryListResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(childDetails.getParentId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("저장 후 TTL 경과 -> 계속 조회되던 키도 다시 로딩 (다른 인스턴스의 변경 반영)")
+    void getDetails_저장_기준_만료() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            storyCache.getDetails(1L, id -> {
+                loads.incrementAndGet();
+                return StoryDetailsResponseDTO.of(root, null, List.of(), List.of());
+            });
+            now.addAndGet(Duration.ofSeconds(25).toNanos());
+        }
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
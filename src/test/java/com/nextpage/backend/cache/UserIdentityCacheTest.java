@@ -0,0 +1,63 @@
+package com.nextpage.backend.cache;
+
+import com.nextpage.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdentityCache userIdentityCache;
+
+    @BeforeEach
+    void setUp() {
+        userIdentityCache = new UserIdentityCache(userRepository, new SimpleMeterRegistry(), Runnable::run, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("닉네임 조회 -> 두 번째 조회부터 캐시 적중")
+    void getNickname_캐시_적중() {
+        when(userRepository.findNicknameById(1L)).thenReturn(Optional.of("nickname#1"));
+
+        assertThat(userIdentityCache.getNickname(1L)).isEqualTo("nickname#1");
+        assertThat(userIdentityCache.getNickname(1L)).isEqualTo("nickname#1");
+
+        verify(userRepository, times(1)).findNicknameById(1L);
+    }
+
+    @Test
+    @DisplayName("닉네임 조회 -> 존재하지 않는 사용자는 캐시하지 않음")
+    void getNickname_사용자_없음() {
+        when(userRepository.findNicknameById(1L)).thenReturn(Optional.empty());
+
+        assertThat(userIdentityCache.exists(1L)).isFalse();
+        assertThat(userIdentityCache.exists(1L)).isFalse();
+
+        verify(userRepository, times(2)).findNicknameById(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 -> 다음 조회 시 다시 로드")
+    void invalidate() {
+        when(userRepository.findNicknameById(1L)).thenReturn(Optional.of("old#1"), Optional.of("new#1"));
+
+        userIdentityCache.getNickname(1L);
+        userIdentityCache.invalidate(1L);
+
+        assertThat(userIdentityCache.getNickname(1L)).isEqualTo("new#1");
+    }
+}
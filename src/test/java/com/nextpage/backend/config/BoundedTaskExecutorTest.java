@@ -0,0 +1,29 @@
+package com.nextpage.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedTaskExecutorTest {
+
+    @Test
+    @DisplayName("실행 중인 작업 수가 상한이면 거절, 작업이 끝나면 다시 수락")
+    void rejectsWhenFull() {
+        List<Runnable> running = new ArrayList<>(); // 실행을 미뤄 작업이 진행 중인 상태를 만듦
+        VirtualThreadConfig.BoundedTaskExecutor executor = new VirtualThreadConfig.BoundedTaskExecutor(running::add, 2);
+
+        executor.execute(() -> {});
+        executor.execute(() -> {});
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+
+        running.get(0).run();
+        executor.execute(() -> {});
+        assertThat(running).hasSize(3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nextpage.backend.config.jwt;
+
+import com.nextpage.backend.cache.UserIdentityCache;
+import com.nextpage.backend.error.exception.auth.TokenUserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService(new SimpleMeterRegistry(), userIdentityCache);
+        ReflectionTestUtils.setField(tokenService, "SECRET_KEY", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(tokenService, "ACCESS_EXPIRE_LENGTH", 60_000L);
+        ReflectionTestUtils.setField(tokenService, "REFRESH_EXPIRE_LENGTH", 60_000L);
+        ReflectionTestUtils.setField(tokenService, "VERIFIED_CACHE_MAX_SIZE", 100L);
+        ReflectionTestUtils.setField(tokenService, "VERIFIED_CACHE_TTL", Duration.ofMinutes(5));
+        tokenService.init();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("AUTHORIZATION", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 -> UserIdentityCache의 현재 닉네임으로 인증")
+    void getAuthenticatedUser_성공() {
+        when(userIdentityCache.getNickname(1L)).thenReturn("new#1");
+        String token = tokenService.generateAccessToken(1L);
+
+        AuthenticatedUser user = tokenService.getAuthenticatedUser(request(token)).orElseThrow();
+
+        assertThat(user.id()).isEqualTo(1L);
+        assertThat(user.nickname()).isEqualTo("new#1");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰 -> 만료 전이어도 인증하지 않음 (401, A003)")
+    void getAuthenticatedUser_탈퇴한_사용자() {
+        when(userIdentityCache.getNickname(1L)).thenReturn(null);
+        String token = tokenService.generateAccessToken(1L);
+
+        assertThat(tokenService.getAuthenticatedUser(request(token))).isEmpty();
+        assertThrows(TokenUserNotFoundException.class, () -> tokenService.validateAccessToken(request(token)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.nextpage.backend.config.neo4j;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoryIdGeneratorTest {
+
+    @Test
+    @DisplayName("id 생성 -> 단조 증가, 중복 없음")
+    void nextId_단조_증가() {
+        StoryIdGenerator generator = new StoryIdGenerator(3);
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) { // 밀리초당 시퀀스(256)를 넘기는 개수
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("id 생성 -> JavaScript 안전 정수(53비트) 범위")
+    void nextId_53비트() {
+        long id = new StoryIdGenerator(StoryIdGenerator.MAX_WORKERS - 1).nextId();
+
+        assertThat(id).isPositive().isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("id 생성 -> 워커가 다르면 같은 시각에도 겹치지 않음")
+    void nextId_워커별_구분() {
+        long first = new StoryIdGenerator(1).nextId();
+        long second = new StoryIdGenerator(2).nextId();
+
+        assertThat((first >> 8) & 0xF).isEqualTo(1);
+        assertThat((second >> 8) & 0xF).isEqualTo(2);
+    }
+}
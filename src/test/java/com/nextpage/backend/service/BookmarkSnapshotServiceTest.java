@@ -0,0 +1,68 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.event.StoryChangedEvent;
+import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
+import com.nextpage.backend.repository.StoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkSnapshotServiceTest {
+
+    @Mock
+    private StoryRepository storyRepository;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    private BookmarkSnapshotService bookmarkSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        bookmarkSnapshotService = new BookmarkSnapshotService(storyRepository, bookmarkRepository, Duration.ofDays(1), 2);
+    }
+
+    @Test
+    @DisplayName("스토리 변경 이벤트 -> 스냅샷 갱신, 사라진 스토리의 북마크는 숨김")
+    void onStoryChanged() {
+        List<BookmarkSnapshot> snapshots = List.of(new BookmarkSnapshot(1L, "imageUrl1", null, "Content1", "nickname1", 1L));
+        when(storyRepository.findBookmarkSnapshotsByIds(List.of(1L, 2L))).thenReturn(snapshots);
+
+        bookmarkSnapshotService.onStoryChanged(new StoryChangedEvent(List.of(1L, 2L)));
+
+        verify(bookmarkRepository, times(1)).updateSnapshots(eq(snapshots), any(LocalDateTime.class));
+        verify(bookmarkRepository, times(1)).markDeletedByStoryIdIn(eq(Set.of(2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("대사 -> storyId 키셋으로 배치 순회")
+    void reconcile() {
+        when(bookmarkRepository.findStaleStoryIds(eq(-1L), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(bookmarkRepository.findStaleStoryIds(eq(2L), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(3L));
+        when(storyRepository.findBookmarkSnapshotsByIds(anyCollection())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new BookmarkSnapshot(id, "imageUrl" + id, null, "Content" + id, "nickname1", 1L)).toList();
+        });
+
+        bookmarkSnapshotService.reconcile();
+
+        verify(bookmarkRepository, times(1)).findStaleStoryIds(eq(-1L), any(LocalDateTime.class), eq(PageRequest.of(0, 2)));
+        verify(bookmarkRepository, times(1)).findStaleStoryIds(eq(2L), any(LocalDateTime.class), eq(PageRequest.of(0, 2)));
+        verify(bookmarkRepository, times(2)).updateSnapshots(anyCollection(), any(LocalDateTime.class));
+        verify(bookmarkRepository, never()).markDeletedByStoryIdIn(anyCollection(), any());
+    }
+}
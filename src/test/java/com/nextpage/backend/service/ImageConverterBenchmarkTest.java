@@ -0,0 +1,143 @@
+package com.nextpage.backend.service;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 썸네일 → WebP 변환: 기존 파일 경유 방식(임시 PNG + scrimage cwebp) vs cwebp 파이프 방식 벽시계 시간 비교
+ * 두 경로 모두 렌디션 인코딩 풀과 같은 ForkJoinPool에서 실행 - 풀 스레드 버퍼 재사용과 외부 cwebp 인코딩 시간이 함께 측정됨
+ * 실행: ./gradlew benchmark (PATH에 cwebp 필요)
+ */
+@Tag("benchmark")
+class ImageConverterBenchmarkTest {
+    private static final int PARALLELISM = 4;
+    private static final int WARMUP = 8;
+    private static final int ITERATIONS = 40;
+
+    private static byte[] source;
+    private static ForkJoinPool imageEncodingPool;
+    private static ImageConverter imageConverter;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        assumeTrue(cwebpAvailable(), "cwebp 가 PATH에 없음");
+        // DALL·E 결과와 같은 1024x1024 PNG
+        BufferedImage image = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, 1024, 1024, Color.BLUE));
+        g.fillRect(0, 0, 1024, 1024);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        source = out.toByteArray();
+        imageEncodingPool = new ForkJoinPool(PARALLELISM);
+        imageConverter = new ImageConverter(imageEncodingPool, "cwebp", Duration.ofSeconds(30));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (imageEncodingPool != null) { imageEncodingPool.shutdown(); }
+    }
+
+    @Test
+    @DisplayName("WebP 변환 -> 파일 경유 vs cwebp 파이프 (인코딩 풀에서 실행)")
+    void compare() throws Exception {
+        assertThat(isWebp(imageEncodingPool.submit(this::legacyPath).get())).isTrue();
+        assertThat(isWebp(imageEncodingPool.submit(this::pipedPath).get())).isTrue();
+
+        Result legacy = measure(this::legacyPath);
+        Result piped = measure(this::pipedPath);
+
+        System.out.printf("legacy: %.1f ms/op, %.1f ops/s%n", legacy.millisPerOp(), legacy.opsPerSecond());
+        System.out.printf("piped : %.1f ms/op, %.1f ops/s%n", piped.millisPerOp(), piped.opsPerSecond());
+        assertThat(piped.opsPerSecond()).isGreaterThan(legacy.opsPerSecond());
+    }
+
+    // 변경 전 ImageService.uploadWithThumbnailator 와 동일한 경로 (업로드 제외)
+    private byte[] legacyPath() throws Exception {
+        BufferedImage thumb = Thumbnails.of(new ByteArrayInputStream(source)).size(512, 512).asBufferedImage();
+        File thumbPng = File.createTempFile("thumb-", ".png");
+        File webpFile = File.createTempFile("thumb-", ".webp");
+        try {
+            ImageIO.write(thumb, "png", thumbPng);
+            ImmutableImage img = ImmutableImage.loader().fromFile(thumbPng);
+            img.output(WebpWriter.DEFAULT, webpFile);
+            return Files.readAllBytes(webpFile.toPath());
+        } finally {
+            thumbPng.delete();
+            webpFile.delete();
+        }
+    }
+
+    private byte[] pipedPath() throws Exception {
+        BufferedImage thumb = imageConverter.resize(new ByteArrayInputStream(source), 512, 512);
+        return imageConverter.toWebp(thumb).toByteArray();
+    }
+
+    // 풀 크기만큼 동시에 실행한 전체 벽시계 시간 기준 (작업 안의 외부 프로세스 / 파일 I/O 시간 포함)
+    private Result measure(Conversion conversion) throws Exception {
+        runBatch(conversion, WARMUP);
+        long start = System.nanoTime();
+        runBatch(conversion, ITERATIONS);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+        return new Result(elapsedMillis * PARALLELISM / ITERATIONS, ITERATIONS * 1000.0 / elapsedMillis);
+    }
+
+    private static void runBatch(Conversion conversion, int count) throws Exception {
+        List<Future<byte[]>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(imageEncodingPool.submit(conversion::run));
+        }
+        for (Future<byte[]> future : futures) {
+            future.get();
+        }
+    }
+
+    private static boolean isWebp(byte[] bytes) {
+        return bytes.length > 12
+                && new String(Arrays.copyOfRange(bytes, 0, 4), StandardCharsets.US_ASCII).equals("RIFF")
+                && new String(Arrays.copyOfRange(bytes, 8, 12), StandardCharsets.US_ASCII).equals("WEBP");
+    }
+
+    private static boolean cwebpAvailable() {
+        try {
+            return new ProcessBuilder("cwebp", "-version").redirectErrorStream(true).start().waitFor() == 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+        byte[] run() throws Exception;
+    }
+
+    private record Result(double millisPerOp, double opsPerSecond) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.error.exception.image.ImageJobNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageJobServiceTest {
+
+    @Mock
+    private OpenAiService openAiService;
+
+    private final AtomicLong now = new AtomicLong();
+    private final Queue<Runnable> queued = new ArrayDeque<>(); // 워커 풀 대신 테스트에서 직접 실행
+    private ImageJobService imageJobService;
+
+    @BeforeEach
+    void setUp() {
+        imageJobService = new ImageJobService(openAiService, queued::add, Duration.ofMinutes(10), Duration.ofMinutes(2), now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업 -> 보관 기간이 지나도 만료되지 않음")
+    void getJob_대기_중_만료_없음() {
+        String jobId = imageJobService.submit("고양이").getJobId();
+
+        advance(Duration.ofHours(1));
+
+        assertThat(imageJobService.getJob(jobId).getStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("완료된 작업 -> 완료 시점부터 보관 기간 뒤 만료")
+    void getJob_완료_후_만료() {
+        when(openAiService.generateImage("고양이")).thenReturn("imageUrl");
+        String jobId = imageJobService.submit("고양이").getJobId();
+        advance(Duration.ofMinutes(30)); // 등록 후 보관 기간보다 오래 대기
+
+        queued.poll().run();
+        advance(Duration.ofMinutes(9));
+        assertThat(imageJobService.getJob(jobId).getImageUrl()).isEqualTo("imageUrl");
+
+        advance(Duration.ofMinutes(2));
+        assertThrows(ImageJobNotFoundException.class, () -> imageJobService.getJob(jobId));
+    }
+}
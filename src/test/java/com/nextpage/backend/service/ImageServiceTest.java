@@ -0,0 +1,141 @@
+package com.nextpage.backend.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.nextpage.backend.error.exception.image.ImageUploadException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+    @Mock
+    private AmazonS3 amazonS3;
+    @Mock
+    private ImageConverter imageConverter;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpResponse<Object> response;
+
+    private final ForkJoinPool imageEncodingPool = new ForkJoinPool(2);
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageService(amazonS3, imageConverter, imageEncodingPool, Runnable::run, httpClient, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(imageService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(imageService, "maxImageBytes", 1024 * 1024);
+        ReflectionTestUtils.setField(imageService, "uploadReadLimit", 1024);
+        ReflectionTestUtils.setField(imageService, "maxConnectionsPerHost", 4);
+        ReflectionTestUtils.setField(imageService, "downloadTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(imageService, "renditionsEnabled", true);
+        ReflectionTestUtils.setField(imageService, "renditionSizes", List.of(128, 256));
+        ReflectionTestUtils.setField(imageService, "renditionFormats", List.of("webp", "jpeg"));
+        ReflectionTestUtils.setField(imageService, "primaryRendition", "webp_256");
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageEncodingPool.shutdownNow();
+    }
+
+    private void givenDownload() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "png", png);
+        byte[] bytes = png.toByteArray();
+        when(response.statusCode()).thenReturn(200);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Length", List.of(String.valueOf(bytes.length))), (name, value) -> true));
+        when(response.body()).thenReturn(new ByteArrayInputStream(bytes));
+        doReturn(response).when(httpClient).send(any(), any());
+        when(imageConverter.encodeRendition(any(), anyInt(), anyString())).thenReturn(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("렌디션 전체 성공 -> 매니페스트와 대표 렌디션 URL 반환")
+    void uploadWithRenditions_성공() throws Exception {
+        givenDownload();
+        when(amazonS3.getUrl(anyString(), anyString()))
+                .thenAnswer(inv -> new URL("https://s3/" + inv.getArgument(1, String.class)));
+
+        ImageService.StoredImage stored = imageService.uploadWithRenditions("https://dalle/image.png");
+
+        assertThat(stored.renditions()).containsOnlyKeys("webp_128", "jpeg_128", "webp_256", "jpeg_256");
+        assertThat(stored.imageUrl()).endsWith("/webp_256.webp");
+        verify(amazonS3, never()).deleteObjects(any());
+    }
+
+    @Test
+    @DisplayName("렌디션 하나가 업로드 실패 -> 이미 올라간 렌디션 삭제 후 실패")
+    void uploadWithRenditions_실패_시_정리() throws Exception {
+        givenDownload();
+        Set<String> uploaded = ConcurrentHashMap.newKeySet();
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(inv -> {
+            PutObjectRequest request = inv.getArgument(0);
+            if (request.getKey().endsWith("jpeg_256.jpg")) { throw new IllegalStateException("S3 오류"); }
+            uploaded.add(request.getKey());
+            return null;
+        });
+        lenient().when(amazonS3.getUrl(anyString(), anyString()))
+                .thenAnswer(inv -> new URL("https://s3/" + inv.getArgument(1, String.class)));
+
+        assertThrows(ImageUploadException.class, () -> imageService.uploadWithRenditions("https://dalle/image.png"));
+
+        if (uploaded.isEmpty()) {
+            verify(amazonS3, never()).deleteObjects(any());
+        } else {
+            ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+            verify(amazonS3).deleteObjects(captor.capture());
+            assertThat(captor.getValue().getKeys())
+                    .extracting(DeleteObjectsRequest.KeyVersion::getKey)
+                    .containsExactlyInAnyOrderElementsOf(uploaded);
+        }
+    }
+
+    @Test
+    @DisplayName("렌디션 포맷 설정이 비어 있음 -> 시작 시 실패")
+    void validateRenditions_빈_설정() {
+        ReflectionTestUtils.setField(imageService, "renditionFormats", List.of());
+
+        assertThrows(IllegalStateException.class, () -> imageService.validateRenditions());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 렌디션 포맷 -> 시작 시 실패")
+    void validateRenditions_미지원_포맷() {
+        ReflectionTestUtils.setField(imageService, "renditionFormats", List.of("webp", "avif"));
+
+        assertThrows(IllegalStateException.class, () -> imageService.validateRenditions());
+    }
+}
@@ -1,17 +1,20 @@
 package com.nextpage.backend.service;
 
-import com.nextpage.backend.config.jwt.TokenService;
+import com.nextpage.backend.cache.UserIdentityCache;
+import com.nextpage.backend.dto.request.CursorRequest;
+import com.nextpage.backend.dto.response.BookmarkBulkResponseDTO;
 import com.nextpage.backend.dto.response.BookmarkResponseDTO;
+import com.nextpage.backend.dto.response.CursorPageResponseDTO;
 import com.nextpage.backend.dto.response.StoryListResponseDTO;
 import com.nextpage.backend.entity.Bookmark;
 import com.nextpage.backend.entity.Story;
 import com.nextpage.backend.entity.User;
 import com.nextpage.backend.error.exception.bookmark.BookmarkNotFoundException;
+import com.nextpage.backend.error.exception.story.StoryNotFoundException;
 import com.nextpage.backend.error.exception.user.UserNotFoundException;
 import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.StoryQueryRepository.BookmarkSnapshot;
 import com.nextpage.backend.repository.StoryRepository;
-import com.nextpage.backend.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,11 +22,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -38,17 +43,11 @@ class MypageServiceTest {
     @Mock
     private StoryRepository storyRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private BookmarkRepository bookmarkRepository;
 
     @Mock
-    private TokenService tokenService;
-
-    @Mock
-    private HttpServletRequest request;
+    private UserIdentityCache userIdentityCache;
 
     private User user;
     private Story story1;
@@ -80,147 +79,139 @@ class MypageServiceTest {
     @Test
     @DisplayName("내가 작성한 스토리 조회 -> 성공")
     void getStoriesByNickname_성공() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(storyRepository.findStoriesByNickname(anyString(), isNull(), isNull(), anyInt())).thenReturn(Arrays.asList(story1));
 
-        when(storyRepository.findStoriesByNickname(anyString())).thenReturn(Arrays.asList(story1));
-
-        List<StoryListResponseDTO> storyList = mypageService.getStoriesByNickname(request);
+        CursorPageResponseDTO<StoryListResponseDTO> storyPage = mypageService.getStoriesByNickname(user.getNickname(), CursorRequest.of(null, 20));
+        List<StoryListResponseDTO> storyList = storyPage.getContent();
 
         assertThat(storyList).hasSize(1);
         assertThat(storyList.get(0).getContent()).isEqualTo("Content1");
+        assertThat(storyPage.isHasNext()).isFalse();
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(storyRepository, times(1)).findStoriesByNickname(user.getNickname());
+        verify(storyRepository, times(1)).findStoriesByNickname(user.getNickname(), null, null, 21);
     }
 
     @Test
-    @DisplayName("내가 작성한 스토리 조회 -> 존재하지 않는 사용자")
-    void getStoriesByNickname_사용자_없음() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(null));
+    @DisplayName("북마크 추가 -> 성공")
+    void addBookmark_성공() {
+        BookmarkSnapshot snapshot = new BookmarkSnapshot(story1.getId(), story1.getImageUrl(), null, "Content1", "nickname1", story1.getId());
+        when(userIdentityCache.exists(anyLong())).thenReturn(true);
+        when(storyRepository.findBookmarkSnapshotsByIds(List.of(story1.getId()))).thenReturn(List.of(snapshot));
 
-        assertThrows(UserNotFoundException.class, () -> mypageService.getStoriesByNickname(request));
+        mypageService.addBookmark(user.getId(), story1.getId());
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(storyRepository, never()).findStoriesByNickname(user.getNickname());
+        verify(bookmarkRepository, times(1)).insertIgnoringDuplicates(eq(user.getId()), eq(List.of(snapshot)), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("북마크 추가 -> 성공")
-    void addBookmark_성공() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(user));
-
-        when(storyRepository.findById(anyLong())).thenReturn(Optional.ofNullable(story1));
+    @DisplayName("북마크 추가 -> 사용자 없음")
+    void addBookmark_사용자_없음() {
+        when(userIdentityCache.exists(anyLong())).thenReturn(false);
 
-        mypageService.addBookmark(request, story1.getId());
+        assertThrows(UserNotFoundException.class, () -> mypageService.addBookmark(user.getId(), story1.getId()));
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(1L);
-        verify(storyRepository, times(1)).findById(1L);
-        verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        verify(userIdentityCache, times(1)).exists(user.getId());
+        verify(storyRepository, never()).findBookmarkSnapshotsByIds(anyCollection());
+        verify(bookmarkRepository, never()).insertIgnoringDuplicates(anyLong(), anyCollection(), any());
     }
 
     @Test
-    @DisplayName("북마크 추가 -> 사용자 없음")
-    void addBookmark_사용자_없음() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(null));
+    @DisplayName("북마크 추가 -> 스토리 없음")
+    void addBookmark_스토리_없음() {
+        when(userIdentityCache.exists(anyLong())).thenReturn(true);
+        when(storyRepository.findBookmarkSnapshotsByIds(anyCollection())).thenReturn(List.of());
 
-        assertThrows(UserNotFoundException.class, () -> mypageService.addBookmark(request, story1.getId()));
+        assertThrows(StoryNotFoundException.class, () -> mypageService.addBookmark(user.getId(), story1.getId()));
+
+        verify(bookmarkRepository, never()).insertIgnoringDuplicates(anyLong(), anyCollection(), any());
+    }
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(storyRepository, never()).findById(story1.getId());
-        verify(bookmarkRepository, never()).save(bookmark);
+    @Test
+    @DisplayName("북마크 일괄 추가 -> 중복 id는 한 번만 조회, 추가된 수 반환")
+    void addBookmarks_성공() {
+        List<BookmarkSnapshot> snapshots = List.of(
+                new BookmarkSnapshot(1L, "imageUrl1", null, "Content1", "nickname1", 1L),
+                new BookmarkSnapshot(2L, "imageUrl2", null, "Content2", "nickname2", 1L));
+        when(userIdentityCache.exists(anyLong())).thenReturn(true);
+        when(storyRepository.findBookmarkSnapshotsByIds(anyCollection())).thenReturn(snapshots);
+        when(bookmarkRepository.insertIgnoringDuplicates(eq(user.getId()), eq(snapshots), any(LocalDateTime.class))).thenReturn(1);
+
+        BookmarkBulkResponseDTO result = mypageService.addBookmarks(user.getId(), List.of(1L, 2L, 2L, 3L));
+
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getAffected()).isEqualTo(1);
+        verify(storyRepository, times(1)).findBookmarkSnapshotsByIds(new LinkedHashSet<>(List.of(1L, 2L, 3L)));
     }
 
     @Test
     @DisplayName("북마크 조회 -> 성공")
     void getBookmarks_성공() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(user));
-
-        when(bookmarkRepository.findByUserId(user.getId())).thenReturn(Arrays.asList(bookmark));
+        when(bookmarkRepository.findFirstPageByUserId(eq(user.getId()), any(Pageable.class))).thenReturn(Arrays.asList(bookmark));
 
-        List<BookmarkResponseDTO> bookmarkList = mypageService.getBookmarks(request);
+        List<BookmarkResponseDTO> bookmarkList = mypageService.getBookmarks(user.getId(), CursorRequest.of(null, 20)).getContent();
 
         assertThat(bookmarkList).hasSize(1);
         assertThat(bookmarkList.get(0).getImageUrl()).isEqualTo("imageUrl1");
+        assertThat(bookmarkList.get(0).getUserId()).isEqualTo(user.getId());
+        assertThat(bookmarkList.get(0).getContentExcerpt()).isEqualTo("Content1");
+        assertThat(bookmarkList.get(0).getAuthorNickname()).isEqualTo("nickname1");
+        assertThat(bookmarkList.get(0).getRootId()).isEqualTo(story1.getId());
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(bookmarkRepository, times(1)).findByUserId(user.getId());
+        verify(bookmarkRepository, times(1)).findFirstPageByUserId(user.getId(), PageRequest.of(0, 21));
     }
 
     @Test
-    @DisplayName("북마크 조회 -> 사용자 없음")
-    void getBookmarks_사용자_없음() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(null));
-
-        assertThrows(UserNotFoundException.class, () -> mypageService.getBookmarks(request));
-
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(bookmarkRepository, never()).findByUserId(user.getId());
+    @DisplayName("북마크 조회 -> 다음 페이지 커서")
+    void getBookmarks_다음_페이지() {
+        Bookmark older = Bookmark.builder()
+                .id(1L).user(user).storyId(1L).imageUrl("imageUrl1")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0)).isDeleted(false)
+                .build();
+        Bookmark newer = Bookmark.builder()
+                .id(2L).user(user).storyId(2L).imageUrl("imageUrl2")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 0, 0)).isDeleted(false)
+                .build();
+        when(bookmarkRepository.findFirstPageByUserId(eq(user.getId()), any(Pageable.class))).thenReturn(Arrays.asList(newer, older));
+        when(bookmarkRepository.findNextPageByUserId(eq(user.getId()), eq(newer.getCreatedAt()), eq(newer.getId()), any(Pageable.class)))
+                .thenReturn(Arrays.asList(older));
+
+        CursorPageResponseDTO<BookmarkResponseDTO> first = mypageService.getBookmarks(user.getId(), CursorRequest.of(null, 1));
+        CursorPageResponseDTO<BookmarkResponseDTO> second = mypageService.getBookmarks(user.getId(), CursorRequest.of(first.getNextCursor(), 1));
+
+        assertThat(first.getContent()).extracting(BookmarkResponseDTO::getStoryId).containsExactly(2L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(BookmarkResponseDTO::getStoryId).containsExactly(1L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
     }
 
     @Test
     @DisplayName("북마크 삭제 -> 성공")
     void deleteBookmark_성공() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(user));
-
-        when(bookmarkRepository.findByUserIdAndStoryId(user.getId(), story1.getId())).thenReturn(Optional.of(bookmark));
-
-        mypageService.deleteBookmark(request, story1.getId());
+        when(bookmarkRepository.softDeleteByUserIdAndStoryIdIn(eq(user.getId()), eq(List.of(story1.getId())), any(LocalDateTime.class))).thenReturn(1);
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(bookmarkRepository, times(1)).findByUserIdAndStoryId(user.getId(), story1.getId());
-        verify(bookmarkRepository, times(1)).delete(bookmark);
-    }
-
-    @Test
-    @DisplayName("북마크 삭제 -> 사용자 없음")
-    void deleteBookmark_사용자_없음() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(null));
-
-        assertThrows(UserNotFoundException.class, () -> mypageService.deleteBookmark(request, story1.getId()));
+        mypageService.deleteBookmark(user.getId(), story1.getId());
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(bookmarkRepository, never()).findByUserIdAndStoryId(anyLong(), anyLong());
+        verify(bookmarkRepository, times(1)).softDeleteByUserIdAndStoryIdIn(eq(user.getId()), eq(List.of(story1.getId())), any(LocalDateTime.class));
         verify(bookmarkRepository, never()).delete(any(Bookmark.class));
     }
 
     @Test
     @DisplayName("북마크 삭제 -> 북마크 없음")
     void deleteBookmark_북마크_없음() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(any(HttpServletRequest.class))).thenReturn(user.getId());
-        when(userRepository.findById(anyLong())).thenReturn(Optional.ofNullable(user));
+        when(bookmarkRepository.softDeleteByUserIdAndStoryIdIn(eq(user.getId()), eq(List.of(story1.getId())), any(LocalDateTime.class))).thenReturn(0);
 
-        when(bookmarkRepository.findByUserIdAndStoryId(user.getId(), story1.getId())).thenReturn(Optional.ofNullable(null));
+        assertThrows(BookmarkNotFoundException.class, () -> mypageService.deleteBookmark(user.getId(), story1.getId()));
+    }
+
+    @Test
+    @DisplayName("북마크 일괄 삭제 -> 삭제된 수 반환")
+    void deleteBookmarks_성공() {
+        when(bookmarkRepository.softDeleteByUserIdAndStoryIdIn(eq(user.getId()), anyCollection(), any(LocalDateTime.class))).thenReturn(2);
 
-        assertThrows(BookmarkNotFoundException.class, () -> mypageService.deleteBookmark(request, story1.getId()));
+        BookmarkBulkResponseDTO result = mypageService.deleteBookmarks(user.getId(), List.of(1L, 2L, 3L));
 
-        verify(tokenService, times(1)).getUserIdFromToken(request);
-        verify(userRepository, times(1)).findById(user.getId());
-        verify(bookmarkRepository, times(1)).findByUserIdAndStoryId(user.getId(), story1.getId());
-        verify(bookmarkRepository, never()).delete(any(Bookmark.class));
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getAffected()).isEqualTo(2);
     }
 }
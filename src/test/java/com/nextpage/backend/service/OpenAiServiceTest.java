@@ -0,0 +1,129 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.cache.ImagePromptCache;
+import com.nextpage.backend.error.exception.image.ImageUploadException;
+import com.nextpage.backend.service.openai.OpenAiCallGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenAiServiceTest {
+
+    @Mock
+    private ImageService imageService;
+    @Mock
+    private ImagePromptCache imagePromptCache;
+    @Mock
+    private OpenAiCallGuard openAiCallGuard;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicInteger fanOutTasks = new AtomicInteger(); // openAiFanOutExecutor에서 실행된 호출 수
+    private int imagesPerResponse;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        // DALL·E 응답 흉내 - 호출마다 서로 다른 URL을 imagesPerResponse 장 반환
+        webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    int call = upstreamCalls.incrementAndGet();
+                    String data = IntStream.range(0, imagesPerResponse)
+                            .mapToObj(i -> "{\"url\":\"https://dalle/" + call + "-" + i + ".png\"}")
+                            .collect(Collectors.joining(","));
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"data\":[" + data + "]}")
+                            .build());
+                })
+                .build();
+    }
+
+    private OpenAiService service(String model) {
+        return new OpenAiService(webClient, imageService, imagePromptCache, openAiCallGuard,
+                task -> { fanOutTasks.incrementAndGet(); task.run(); }, Runnable::run, "key", model);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThroughGuard() {
+        when(openAiCallGuard.execute(anyInt(), any(Supplier.class)))
+                .thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("n>1 지원 모델 -> DALL·E 한 번 호출로 count장을 받아 모두 업로드")
+    void generateImages_한번에_생성() {
+        imagesPerResponse = 3;
+        passThroughGuard();
+        when(imageService.uploadWithLambda(anyString())).thenAnswer(inv -> "s3:" + inv.getArgument(0));
+
+        List<String> imageUrls = service("dall-e-2").generateImages("고양이", 3);
+
+        assertThat(imageUrls).containsExactly("s3:https://dalle/1-0.png", "s3:https://dalle/1-1.png", "s3:https://dalle/1-2.png");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(fanOutTasks.get()).isZero();
+        verify(openAiCallGuard).execute(eq(3), any()); // 토큰 버킷은 이미지 수만큼 차감
+        verify(imagePromptCache, never()).get(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("n=1만 허용하는 모델 -> 병렬 호출 풀에서 count번 나눠 호출")
+    void generateImages_병렬_호출() {
+        imagesPerResponse = 1;
+        passThroughGuard();
+        when(imageService.uploadWithLambda(anyString())).thenAnswer(inv -> "s3:" + inv.getArgument(0));
+
+        List<String> imageUrls = service("dall-e-3").generateImages("고양이", 3);
+
+        assertThat(imageUrls).hasSize(3).doesNotHaveDuplicates();
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+        assertThat(fanOutTasks.get()).isEqualTo(3); // 업로드 풀을 쓰지 않음
+        verify(openAiCallGuard, times(3)).execute(eq(1), any());
+    }
+
+    @Test
+    @DisplayName("일부 업로드 실패 -> 성공한 이미지만 반환")
+    void generateImages_일부_실패() {
+        imagesPerResponse = 3;
+        passThroughGuard();
+        when(imageService.uploadWithLambda(anyString())).thenAnswer(inv -> "s3:" + inv.getArgument(0));
+        when(imageService.uploadWithLambda("https://dalle/1-1.png")).thenThrow(new ImageUploadException("이미지 업로드 실패", null));
+
+        List<String> imageUrls = service("dall-e-2").generateImages("고양이", 3);
+
+        assertThat(imageUrls).containsExactly("s3:https://dalle/1-0.png", "s3:https://dalle/1-2.png");
+    }
+
+    @Test
+    @DisplayName("모두 실패 -> 예외")
+    void generateImages_모두_실패() {
+        imagesPerResponse = 2;
+        passThroughGuard();
+        when(imageService.uploadWithLambda(anyString())).thenThrow(new ImageUploadException("이미지 업로드 실패", null));
+
+        assertThrows(RuntimeException.class, () -> service("dall-e-2").generateImages("고양이", 2));
+    }
+}
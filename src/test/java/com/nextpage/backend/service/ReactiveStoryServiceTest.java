@@ -0,0 +1,122 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.cache.StoryCache;
+import com.nextpage.backend.dto.response.ScenarioResponseDTO;
+import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
+import com.nextpage.backend.dto.response.StoryListResponseDTO;
+import com.nextpage.backend.entity.Story;
+import com.nextpage.backend.error.exception.story.StoryNotFoundException;
+import com.nextpage.backend.repository.reactive.ReactiveStoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveStoryServiceTest {
+
+    @Mock
+    private ReactiveStoryRepository reactiveStoryRepository;
+
+    private StoryCache storyCache;
+    private ReactiveStoryService reactiveStoryService;
+
+    @BeforeEach
+    void setUp() {
+        storyCache = new StoryCache(new SimpleMeterRegistry(), Runnable::run, 100, Duration.ofMinutes(1));
+        reactiveStoryService = new ReactiveStoryService(reactiveStoryRepository, storyCache);
+    }
+
+    private Story story(Long id) {
+        return Story.builder()
+                .id(id)
+                .content("Content" + id)
+                .imageUrl("imageUrl" + id)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .isDeleted(false)
+                .userNickname("nickname")
+                .build();
+    }
+
+    @Test
+    @DisplayName("상세 조회 -> 블로킹 경로와 같은 캐시를 사용, 두 번째 조회는 Neo4j 조회 없음")
+    void getStoryDetails_캐시_공유() {
+        StoryDetailsResponseDTO details = StoryDetailsResponseDTO.of(story(1L), null, List.of(), List.of());
+        when(reactiveStoryRepository.findDetailsById(1L)).thenReturn(Mono.just(details));
+
+        reactiveStoryService.getStoryDetails(1L).block();
+        StoryDetailsResponseDTO cached = storyCache.getDetails(1L, id -> { throw new AssertionError("캐시 미적중"); });
+
+        assertThat(cached.getId()).isEqualTo(1L);
+        verify(reactiveStoryRepository, times(1)).findDetailsById(1L);
+    }
+
+    @Test
+    @DisplayName("상세 조회 -> 없는 스토리는 StoryNotFoundException, 캐시에 남지 않음")
+    void getStoryDetails_없음() {
+        when(reactiveStoryRepository.findDetailsById(1L)).thenReturn(Mono.empty());
+
+        assertThrows(StoryNotFoundException.class, () -> reactiveStoryService.getStoryDetails(1L).block());
+        assertThrows(StoryNotFoundException.class, () -> reactiveStoryService.getStoryDetails(1L).block());
+
+        verify(reactiveStoryRepository, times(2)).findDetailsById(1L);
+    }
+
+    @Test
+    @DisplayName("시나리오 조회 -> 빈 트리는 StoryNotFoundException")
+    void getStoriesByRootId_없음() {
+        when(reactiveStoryRepository.findScenarioByRootId(1L)).thenReturn(Flux.empty());
+
+        assertThrows(StoryNotFoundException.class, () -> reactiveStoryService.getStoriesByRootId(1L).block());
+    }
+
+    @Test
+    @DisplayName("시나리오 조회 -> 깊이 순 목록 반환")
+    void getStoriesByRootId_성공() {
+        when(reactiveStoryRepository.findScenarioByRootId(1L)).thenReturn(Flux.just(
+                new ScenarioResponseDTO(1L, null, "imageUrl1", null),
+                new ScenarioResponseDTO(2L, 1L, "imageUrl2", null)));
+
+        List<ScenarioResponseDTO> stories = reactiveStoryService.getStoriesByRootId(1L).block();
+
+        assertThat(stories).extracting(ScenarioResponseDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("분기 조회 -> 경로(path) 보정 전이면 관계 순회 결과를 루트 -> 리프 순으로 뒤집음")
+    void getStoriesByleafId_경로_없음() {
+        when(reactiveStoryRepository.findBranchByLeafId(3L)).thenReturn(Flux.empty());
+        when(reactiveStoryRepository.findRecursivelyByLeafId(3L)).thenReturn(Flux.just(story(3L), story(2L), story(1L)));
+
+        List<StoryListResponseDTO> branch = reactiveStoryService.getStoriesByleafId(3L).block();
+
+        assertThat(branch).extracting(StoryListResponseDTO::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("분기 조회 -> 중간 조상이 삭제된 분기는 두 조회 모두 빈 결과, StoryNotFoundException")
+    void getStoriesByleafId_삭제된_조상() {
+        // 리프 3 -> 조상 2(삭제) -> 루트 1: 경로 조회는 삭제된 조상 때문에, 관계 조회는 path가 있는 리프라 빈 결과
+        when(reactiveStoryRepository.findBranchByLeafId(3L)).thenReturn(Flux.empty());
+        when(reactiveStoryRepository.findRecursivelyByLeafId(3L)).thenReturn(Flux.empty());
+
+        assertThrows(StoryNotFoundException.class, () -> reactiveStoryService.getStoriesByleafId(3L).block());
+        assertThrows(StoryNotFoundException.class, () -> reactiveStoryService.getStoriesByleafId(3L).block());
+
+        verify(reactiveStoryRepository, times(2)).findBranchByLeafId(3L); // 실패 결과는 캐시하지 않음
+    }
+}
@@ -1,206 +1,157 @@
-//package com.nextpage.backend.service;
-//
-//import com.nextpage.backend.config.jwt.TokenService;
-//import com.nextpage.backend.dto.request.StorySaveRequest;
-//import com.nextpage.backend.dto.response.RootResponseDTO;
-//import com.nextpage.backend.dto.response.ScenarioResponseDTO;
-//import com.nextpage.backend.dto.response.StoryDetailsResponseDTO;
-//import com.nextpage.backend.dto.response.StoryListResponseDTO;
-//import com.nextpage.backend.entity.Story;
-//import com.nextpage.backend.error.exception.story.StoryNotFoundException;
-//import com.nextpage.backend.error.exception.user.UserNotFoundException;
-//import com.nextpage.backend.repository.StoryRepository;
-//import com.nextpage.backend.repository.UserRepository;
-//import jakarta.servlet.http.HttpServletRequest;
-//import org.junit.jupiter.api.BeforeEach;
-//import org.junit.jupiter.api.DisplayName;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.extension.ExtendWith;
-//import org.mockito.InjectMocks;
-//import org.mockito.Mock;
-//import org.mockito.junit.jupiter.MockitoExtension;
-//
-//import java.time.LocalDateTime;
-//import java.util.Arrays;
-//import java.util.Collections;
-//import java.util.List;
-//import java.util.Optional;
-//
-//import static org.assertj.core.api.Assertions.assertThat;
-//import static org.junit.jupiter.api.Assertions.*;
-//import static org.mockito.Mockito.*;
-//
-//@ExtendWith(MockitoExtension.class)
-//class StoryServiceTest {
-//    @InjectMocks
-//    private StoryService storyService;
-//    @Mock
-//    private StoryRepository storyRepository;
-//
-//    @Mock
-//    private ImageService imageService;
-//
-//    @Mock
-//    private TokenService tokenService;
-//
-//    @Mock
-//    private UserRepository userRepository;
-//
-//    @Mock
-//    private HttpServletRequest request;
-//
-//    private Story story;
-//    private Story parentStory;
-//
-//    @BeforeEach
-//    void setUp() {
-//        parentStory = Story.builder()
-//                .id(2L)
-//                .content("Parent content")
-//                .imageUrl("ParentImageUrl")
-//                .createdAt(LocalDateTime.now())
-//                .updatedAt(LocalDateTime.now())
-//                .isDeleted(false)
-//                .userNickname("parentNickname")
-//                .parentId(null)
-//                .build();
-//
-//        story = Story.builder()
-//                .id(1L)
-//                .content("Content")
-//                .imageUrl("ImageUrl")
-//                .createdAt(LocalDateTime.now())
-//                .updatedAt(LocalDateTime.now())
-//                .isDeleted(false)
-//                .userNickname("testNickname")
-//                .parentId(parentStory)
-//                .build();
-//    }
-//
-//    @DisplayName("루트 스토리 조회 -> 성공")
-//    @Test
-//    void getRootStories_성공(){
-//        when(storyRepository.findRootStories()).thenReturn(Arrays.asList(story));
-//
-//        List<RootResponseDTO> rootStories = storyService.getRootStories();
-//
-//        assertThat(rootStories).isNotEmpty();
-//        assertThat(rootStories.get(0).getId()).isEqualTo(story.getId());
-//        verify(storyRepository, times(1)).findRootStories();
-//    }
-//
-//    @DisplayName("루트 스토리 조회 -> 스토리가 존재하지 않음")
-//    @Test
-//    void getRootStories_스토리가_존재하지_않음() {
-//        when(storyRepository.findRootStories()).thenReturn(Collections.emptyList());
-//
-//        assertThrows(StoryNotFoundException.class, () -> storyService.getRootStories());
-//    }
-//
-//    @DisplayName("스토리 상세 조회 -> 성공")
-//    @Test
-//    void getStoryDetails_성공() {
-//        when(storyRepository.findById(1L)).thenReturn(Optional.of(story));
-//        when(storyRepository.findChildByParentId(1L)).thenReturn(Arrays.asList(story));
-//
-//        StoryDetailsResponseDTO storyDetails = storyService.getStoryDetails(1L);
-//
-//        assertThat(storyDetails).isNotNull();
-//        assertThat(storyDetails.getId()).isEqualTo(story.getId());
-//        verify(storyRepository, times(1)).findById(1L);
-//    }
-//
-//    @DisplayName("스토리 상세 조회 -> 존재하지 않는 스토리")
-//    @Test
-//    void getStoryDetails_존재하지_않는_스토리() {
-//        when(storyRepository.findById(1L)).thenReturn(Optional.empty());
-//
-//        assertThrows(StoryNotFoundException.class, () -> storyService.getStoryDetails(1L));
-//    }
-//
-//    @DisplayName("스토리 생성 -> 성공")
-//    @Test
-//    void generateStory_성공() {
-//        StorySaveRequest request = new StorySaveRequest(-1L, "imageUrl", "content");
-//
-//        when(tokenService.getUserIdFromToken(this.request)).thenReturn(1L);
-//        when(userRepository.findNicknameById(1L)).thenReturn(Optional.of("testNickname"));
-//        when(imageService.uploadImageToS3("imageUrl")).thenReturn("s3Url");
-//        when(storyRepository.findById(anyLong())).thenReturn(Optional.of(parentStory));
-//        storyService.generateStory(request, this.request);
-//
-//        verify(storyRepository, times(1)).save(any(Story.class));
-//    }
-//
-//    @DisplayName("스토리 생성 -> 존재하지 않는 유저")
-//    @Test
-//    void generateStory_존재하지_않는_유저() {
-//        StorySaveRequest request = new StorySaveRequest(-1L, "imageUrl", "content");
-//
-//        when(tokenService.getUserIdFromToken(this.request)).thenReturn(1L);
-//        when(userRepository.findNicknameById(1L)).thenReturn(Optional.empty());
-//
-//        assertThrows(UserNotFoundException.class, () -> storyService.generateStory(request, this.request));
-//    }
-//
-//    @DisplayName("루트 ID로 시나리오 조회 -> 성공")
-//    @Test
-//    void getStoriesByRootId_성공() {
-//        when(storyRepository.findAllChildrenByRootId(2L)).thenReturn(Arrays.asList(parentStory, story));
-//        when(storyRepository.findParentByChildId(story.getId())).thenReturn(Optional.of(parentStory));
-//        when(storyRepository.findParentByChildId(parentStory.getId())).thenReturn(Optional.empty());
-//
-//        List<ScenarioResponseDTO> scenarios = storyService.getStoriesByRootId(2L);
-//
-//        assertThat(scenarios).isNotEmpty();
-//        assertThat(scenarios.size()).isEqualTo(2);
-//
-//        assertThat(scenarios.get(0).getId()).isEqualTo(parentStory.getId());
-//        assertThat(scenarios.get(0).getParentId()).isNull();
-//        assertThat(scenarios.get(0).getImageUrl()).isEqualTo(parentStory.getImageUrl());
-//
-//        assertThat(scenarios.get(1).getId()).isEqualTo(story.getId());
-//        assertThat(scenarios.get(1).getParentId()).isEqualTo(parentStory.getId());
-//        assertThat(scenarios.get(1).getImageUrl()).isEqualTo(story.getImageUrl());
-//
-//        verify(storyRepository, times(1)).findAllChildrenByRootId(2L);
-//        verify(storyRepository, times(1)).findParentByChildId(story.getId());
-//        verify(storyRepository, times(1)).findParentByChildId(parentStory.getId());
-//    }
-//
-//
-//    @DisplayName("루트 ID로 시나리오 조회 -> 존재하지 않는 시나리오")
-//    @Test
-//    void getStoriesByRootId_존재하지_않는_시나리오() {
-//        when(storyRepository.findAllChildrenByRootId(2L)).thenReturn(Collections.emptyList());
-//
-//        assertThrows(StoryNotFoundException.class, () -> storyService.getStoriesByRootId(2L));
-//    }
-//
-//    @DisplayName("특정 분기 조회 -> 성공")
-//    @Test
-//    void getStoriesByleafId_성공() {
-//        List<Story> stories = Arrays.asList(story, parentStory);
-//        when(storyRepository.findRecursivelyByLeafId(1L)).thenReturn(stories);
-//
-//        List<StoryListResponseDTO> result = storyService.getStoriesByleafId(1L);
-//
-//        assertThat(result).isNotEmpty();
-//
-//        assertThat(result.get(0).getId()).isEqualTo(parentStory.getId());
-//        assertThat(result.get(0).getNickname()).isEqualTo(parentStory.getUserNickname());
-//
-//        assertThat(result.get(1).getId()).isEqualTo(story.getId());
-//        assertThat(result.get(1).getNickname()).isEqualTo(story.getUserNickname());
-//
-//        verify(storyRepository, times(1)).findRecursivelyByLeafId(1L);
-//    }
-//
-//    @DisplayName("특정 분기 조회 -> 존재하지 않는 스토리")
-//    @Test
-//    void getStoriesByleafId_존재하지_않는_스토리() {
-//        when(storyRepository.findRecursivelyByLeafId(1L)).thenReturn(Collections.emptyList());
-//
-//        assertThrows(StoryNotFoundException.class, () -> storyService.getStoriesByleafId(1L));
-//    }
-//}
\ No newline at end of file
+package com.nextpage.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextpage.backend.cache.StoryCache;
+import com.nextpage.backend.config.jwt.AuthenticatedUser;
+import com.nextpage.backend.dto.request.StorySaveRequest;
+import com.nextpage.backend.entity.Story;
+import com.nextpage.backend.error.exception.story.StoryNotFoundException;
+import com.nextpage.backend.repository.StoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoryServiceTest {
+
+    @Mock
+    private StoryRepository storyRepository;
+    @Mock
+    private ImageService imageService;
+
+    private StoryService storyService;
+    private final AuthenticatedUser user = new AuthenticatedUser(1L, "nickname#1");
+
+    @BeforeEach
+    void setUp() {
+        StoryCache storyCache = new StoryCache(new SimpleMeterRegistry(), Runnable::run, 100, Duration.ofMinutes(1));
+        storyService = new StoryService(storyRepository, imageService, storyCache, new ObjectMapper());
+    }
+
+    private Story story(Long id, Story parent, List<Long> path, boolean deleted) {
+        return Story.builder()
+                .id(id)
+                .content("Content" + id)
+                .imageUrl("imageUrl" + id)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .isDeleted(deleted)
+                .userNickname("nickname")
+                .parentId(parent)
+                .path(path)
+                .build();
+    }
+
+    // 업로드 / 저장 성공을 가정하고 저장된 스토리를 반환
+    private Story generateAndCapture(Long parentId) throws Exception {
+        when(imageService.uploadStoryImage("imageUrl")).thenReturn(new ImageService.StoredImage("s3Url", Map.of()));
+        when(storyRepository.save(any(Story.class))).thenAnswer(inv -> {
+            Story saved = inv.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 100L); // StoryIdGenerator 대신
+            return saved;
+        });
+
+        storyService.generateStory(new StorySaveRequest(parentId, "imageUrl", "content"), user);
+
+        ArgumentCaptor<Story> captor = ArgumentCaptor.forClass(Story.class);
+        verify(storyRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> parentId 기본값(-1)이면 빈 경로의 :Root 스토리")
+    void generateStory_루트() throws Exception {
+        Story saved = generateAndCapture(-1L);
+
+        assertThat(saved.getParentId()).isNull();
+        assertThat(saved.getPath()).isEmpty();
+        assertThat(saved.getLabels()).containsExactly(Story.ROOT_LABEL);
+        assertThat(saved.getUserNickname()).isEqualTo("nickname#1");
+        verify(storyRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> 경로가 있는 부모면 부모 경로 + 부모 id")
+    void generateStory_경로가_있는_부모() throws Exception {
+        Story root = story(1L, null, List.of(), false);
+        Story parent = story(2L, root, List.of(1L), false);
+        when(storyRepository.findById(2L)).thenReturn(Optional.of(parent));
+
+        Story saved = generateAndCapture(2L);
+
+        assertThat(saved.getParentId()).isSameAs(parent);
+        assertThat(saved.getPath()).containsExactly(1L, 2L);
+        assertThat(saved.getLabels()).doesNotContain(Story.ROOT_LABEL);
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> 경로 보정 전인 부모면 로딩된 상위 관계로 경로 계산")
+    void generateStory_경로가_없는_부모() throws Exception {
+        Story root = story(1L, null, null, false);
+        Story grandParent = story(2L, root, null, false);
+        Story parent = story(3L, grandParent, null, false);
+        when(storyRepository.findById(3L)).thenReturn(Optional.of(parent));
+
+        Story saved = generateAndCapture(3L);
+
+        assertThat(saved.getPath()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> 삭제된 부모면 이미지 업로드 전에 실패")
+    void generateStory_삭제된_부모() throws Exception {
+        Story parent = story(2L, story(1L, null, List.of(), false), List.of(1L), true);
+        when(storyRepository.findById(2L)).thenReturn(Optional.of(parent));
+
+        assertThrows(StoryNotFoundException.class,
+                () -> storyService.generateStory(new StorySaveRequest(2L, "imageUrl", "content"), user));
+
+        verify(imageService, never()).uploadStoryImage(any());
+        verify(storyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스토리 생성 -> 존재하지 않는 부모면 새 루트로 만들지 않고 실패")
+    void generateStory_존재하지_않는_부모() throws Exception {
+        when(storyRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(StoryNotFoundException.class,
+                () -> storyService.generateStory(new StorySaveRequest(2L, "imageUrl", "content"), user));
+
+        verify(imageService, never()).uploadStoryImage(any());
+        verify(storyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스토리 상세 조회 -> 존재하지 않는 스토리")
+    void getStoryDetails_존재하지_않는_스토리() {
+        when(storyRepository.findDetailsById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(StoryNotFoundException.class, () -> storyService.getStoryDetails(1L));
+    }
+
+    @Test
+    @DisplayName("루트 ID로 시나리오 조회 -> 존재하지 않는 시나리오")
+    void getStoriesByRootId_존재하지_않는_시나리오() {
+        when(storyRepository.findScenarioByRootId(2L)).thenReturn(List.of());
+
+        assertThrows(StoryNotFoundException.class, () -> storyService.getStoriesByRootId(2L));
+    }
+}
@@ -0,0 +1,44 @@
+package com.nextpage.backend.service;
+
+import com.nextpage.backend.repository.BookmarkRepository;
+import com.nextpage.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgeServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    private TombstonePurgeService tombstonePurgeService;
+
+    @BeforeEach
+    void setUp() {
+        tombstonePurgeService = new TombstonePurgeService(userRepository, bookmarkRepository, Duration.ofDays(30), 100);
+    }
+
+    @Test
+    @DisplayName("삭제 행 정리 -> 배치가 가득 차면 다음 배치 실행")
+    void purge() {
+        when(bookmarkRepository.purgeDeleted(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 7);
+        when(userRepository.purgeDeleted(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        tombstonePurgeService.purge();
+
+        verify(bookmarkRepository, times(3)).purgeDeleted(any(LocalDateTime.class), eq(100));
+        verify(userRepository, times(1)).purgeDeleted(any(LocalDateTime.class), eq(100));
+    }
+}
@@ -1,5 +1,6 @@
 package com.nextpage.backend.service;
 
+import com.nextpage.backend.cache.UserIdentityCache;
 import com.nextpage.backend.config.jwt.TokenService;
 import com.nextpage.backend.dto.request.UserCreateRequest;
 import com.nextpage.backend.dto.response.SignUpResponseDTO;
@@ -7,8 +8,8 @@ import com.nextpage.backend.dto.response.UserResponseDTO;
 import com.nextpage.backend.entity.User;
 import com.nextpage.backend.error.exception.user.EmailDuplicationException;
 import com.nextpage.backend.error.exception.user.UserNotFoundException;
+import com.nextpage.backend.repository.BookmarkRepository;
 import com.nextpage.backend.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,11 +33,14 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
     @Mock
     private TokenService tokenService;
 
     @Mock
-    private HttpServletRequest request;
+    private UserIdentityCache userIdentityCache;
 
     private User user;
 
@@ -99,6 +103,7 @@ class UserServiceTest {
         assertNotNull(updatedUser);
         assertEquals("testUser#1", updatedUser.getNickname()); // 정상적으로 변경됐는지 확인
         verify(userRepository, times(1)).save(user);
+        verify(userIdentityCache, times(1)).invalidate(user.getId());
     }
 
     @DisplayName("유저 아이디 업데이트 -> 유저 존재하지 않음")
@@ -112,33 +117,32 @@ class UserServiceTest {
     @DisplayName("유저 삭제 -> 성공")
     @Test
     void deleteUser_success() {
-        doNothing().when(tokenService).validateAccessToken(request); // 만료 여부 통과 처리
-        when(tokenService.getUserIdFromToken(request)).thenReturn(user.getId());
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
-        userService.deleteUser(request);
+        userService.deleteUser(user.getId());
 
-        verify(userRepository, times(1)).delete(user);
+        assertTrue(user.isDeleted());
+        assertNotNull(user.getUpdatedAt());
+        verify(userRepository, times(1)).save(user);
+        verify(userRepository, never()).delete(any(User.class));
+        verify(bookmarkRepository, times(1)).softDeleteByUserId(user.getId(), user.getUpdatedAt());
+        verify(userIdentityCache, times(1)).invalidate(user.getId());
     }
 
     @DisplayName("유저 삭제 -> 유저 존재하지 않음")
     @Test
     void deleteUser_userNotFound() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(request)).thenReturn(user.getId());
         when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
 
-        assertThrows(UserNotFoundException.class, () -> userService.deleteUser(request));
+        assertThrows(UserNotFoundException.class, () -> userService.deleteUser(user.getId()));
     }
 
     @DisplayName("유저 조회 -> 성공")
     @Test
     void getUserInfo_success() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(request)).thenReturn(user.getId());
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
-        UserResponseDTO response = userService.getUserInfo(request);
+        UserResponseDTO response = userService.getUserInfo(user.getId());
 
         assertNotNull(response);
         assertEquals(user.getId(), response.getId());
@@ -148,10 +152,8 @@ class UserServiceTest {
     @DisplayName("유저 조회 -> 유저 존재하지 않음")
     @Test
     void getUserInfo_userNotFound() {
-        doNothing().when(tokenService).validateAccessToken(request);
-        when(tokenService.getUserIdFromToken(request)).thenReturn(user.getId());
         when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
 
-        assertThrows(UserNotFoundException.class, () -> userService.getUserInfo(request));
+        assertThrows(UserNotFoundException.class, () -> userService.getUserInfo(user.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.nextpage.backend.service.openai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("한도만큼 사용 중이면 -> 대기 시간 안에 자리가 나지 않으면 false")
+    void acquire_한도_초과() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.acquire(1_000_000)).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도만큼 성공하면 -> 한도 +1 (additive increase)")
+    void onSuccess_한도_증가() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+
+        for (int i = 0; i < 3; i++) { // 2 -> 2.5 -> 2.9 -> 3.24
+            limiter.acquire(0);
+            limiter.onSuccess();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("과부하 신호 -> 한도를 절반으로, 최소 한도 아래로는 내려가지 않음 (multiplicative decrease)")
+    void onOverload_한도_감소() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 16, 0.5);
+
+        limiter.acquire(0);
+        limiter.onOverload();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.acquire(0);
+        limiter.onOverload();
+        limiter.acquire(0);
+        limiter.onOverload();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("과부하와 무관한 실패 -> 한도 유지, 자리만 반납")
+    void onIgnore_한도_유지() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 16, 0.5);
+
+        limiter.acquire(0);
+        limiter.onIgnore();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nextpage.backend.service.openai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private static final long OPEN_DURATION = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 10번 중 최소 4번 기록 후 실패율 50% 이상이면 OPEN, 시험 호출 2번
+        circuitBreaker = new CircuitBreaker(10, 4, 50, OPEN_DURATION, 2, now::get);
+    }
+
+    private void call(boolean success) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) { call(false); }
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 CLOSED, 이후 실패율 50%면 OPEN")
+    void 실패율_초과시_OPEN() {
+        call(false);
+        call(false);
+        call(false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(true); // 4번 중 3번 실패
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN -> 시험 호출 수만큼만 허가, 모두 성공하면 CLOSED")
+    void HALF_OPEN_성공시_CLOSED() {
+        open();
+        now.addAndGet(OPEN_DURATION);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 -> 다시 OPEN")
+    void HALF_OPEN_실패시_OPEN() {
+        open();
+        now.addAndGet(OPEN_DURATION);
+
+        call(false);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 에서 호출하지 않고 반납한 허가 -> 다시 사용 가능")
+    void releasePermission_반납() {
+        open();
+        now.addAndGet(OPEN_DURATION);
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.releasePermission();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+}
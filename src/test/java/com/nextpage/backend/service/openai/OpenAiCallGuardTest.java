@@ -0,0 +1,139 @@
+package com.nextpage.backend.service.openai;
+
+import com.nextpage.backend.error.exception.openAI.OpenAiCircuitOpenException;
+import com.nextpage.backend.error.exception.openAI.OpenAiClientException;
+import com.nextpage.backend.error.exception.openAI.OpenAiRateLimitException;
+import com.nextpage.backend.error.exception.openAI.OpenAiServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OpenAiCallGuardTest {
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private CircuitBreaker circuitBreaker;
+    private final List<Duration> sleeps = new ArrayList<>();
+    private OpenAiCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TokenBucket tokenBucket = new TokenBucket(100, 100, System::nanoTime);
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(8, 1, 16, 0.5);
+        circuitBreaker = new CircuitBreaker(10, 4, 50, TimeUnit.SECONDS.toNanos(30), 1, System::nanoTime);
+        OpenAiCallGuard.RetrySettings retry = new OpenAiCallGuard.RetrySettings(
+                3, Duration.ofMillis(100), Duration.ofSeconds(2), Duration.ofSeconds(30));
+        guard = new OpenAiCallGuard(tokenBucket, concurrencyLimiter, circuitBreaker, meterRegistry,
+                Duration.ofSeconds(1), retry, sleeps::add);
+    }
+
+    private double retries(String cause) {
+        return meterRegistry.get("openai.retries").tag("cause", cause).counter().count();
+    }
+
+    @Test
+    @DisplayName("429 + Retry-After -> 그만큼 기다린 뒤 재시도, 동시성 한도 축소")
+    void execute_429_RetryAfter_재시도() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = guard.execute(() -> {
+            if (calls.incrementAndGet() == 1) { throw new OpenAiRateLimitException(Duration.ofSeconds(2)); }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(sleeps).hasSize(1);
+        assertThat(sleeps.get(0)).isBetween(Duration.ofSeconds(2), Duration.ofMillis(2100));
+        assertThat(retries("rate_limited")).isEqualTo(1);
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(4);
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대값보다 길면 -> 재시도하지 않고 바로 실패")
+    void execute_RetryAfter_초과() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(OpenAiRateLimitException.class, () -> guard.execute(() -> {
+            calls.incrementAndGet();
+            throw new OpenAiRateLimitException(Duration.ofMinutes(5));
+        }));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5xx가 계속되면 -> 최대 시도 횟수까지 지수 백오프 후 실패")
+    void execute_5xx_재시도_소진() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(OpenAiServerException.class, () -> guard.execute(() -> {
+            calls.incrementAndGet();
+            throw new OpenAiServerException();
+        }));
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(sleeps).hasSize(2);
+        assertThat(sleeps.get(0)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(sleeps.get(1)).isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+        assertThat(retries("server_error")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 요청(4xx) -> 재시도하지 않고 동시성 한도 유지")
+    void execute_4xx_재시도_없음() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(OpenAiClientException.class, () -> guard.execute(() -> {
+            calls.incrementAndGet();
+            throw new OpenAiClientException("bad request");
+        }));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(8);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패가 쌓여 서킷이 열리면 -> 재시도도 멈추고, 이후 호출은 OpenAI를 호출하지 않고 거절")
+    void execute_서킷_OPEN() {
+        assertThrows(OpenAiServerException.class, () -> guard.execute(() -> {
+            throw new OpenAiServerException();
+        })); // 실패 3번 (최소 기록 수 4번 전)
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(OpenAiCircuitOpenException.class, () -> guard.execute(() -> {
+            calls.incrementAndGet();
+            throw new OpenAiServerException();
+        })); // 4번째 실패로 OPEN -> 재시도는 거절됨
+        assertThrows(OpenAiCircuitOpenException.class, () -> guard.execute(calls::incrementAndGet));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("openai.limiter.rejected").tag("reason", "circuit_open").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Retry-After 파싱 -> 초 / HTTP-date / 잘못된 값")
+    void parseRetryAfter() {
+        assertThat(OpenAiCallGuard.parseRetryAfter("7")).isEqualTo(Duration.ofSeconds(7));
+        String date = ZonedDateTime.now().plusSeconds(60).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+        assertThat(OpenAiCallGuard.parseRetryAfter(date)).isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+        assertThat(OpenAiCallGuard.parseRetryAfter("soon")).isNull();
+        assertThat(OpenAiCallGuard.parseRetryAfter(null)).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.nextpage.backend.service.openai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("버스트만큼은 바로 사용, 이후는 충전 간격만큼 대기 예약")
+    void reserve_버스트_후_대기() {
+        TokenBucket bucket = new TokenBucket(2, 2, now::get); // 초당 2개 = 500ms 간격
+
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(TimeUnit.SECONDS.toNanos(10))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.reserve(TimeUnit.SECONDS.toNanos(10))).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간보다 오래 기다려야 하면 -> 예약하지 않고 -1")
+    void reserve_대기_초과() {
+        TokenBucket bucket = new TokenBucket(1, 1, now::get);
+        bucket.reserve(0);
+
+        assertThat(bucket.reserve(TimeUnit.MILLISECONDS.toNanos(500))).isEqualTo(-1);
+        assertThat(bucket.availableTokens()).isZero(); // 거절된 요청은 토큰을 쓰지 않음
+    }
+
+    @Test
+    @DisplayName("여러 장을 한 번에 예약 -> 장 수만큼 토큰 차감")
+    void reserve_여러_장() {
+        TokenBucket bucket = new TokenBucket(1, 4, now::get);
+
+        assertThat(bucket.reserve(3, 0)).isZero();
+        assertThat(bucket.reserve(3, TimeUnit.SECONDS.toNanos(10))).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(bucket.availableTokens()).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 용량까지만 충전")
+    void refill_용량_상한() {
+        TokenBucket bucket = new TokenBucket(1, 3, now::get);
+        bucket.reserve(0);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(bucket.availableTokens()).isEqualTo(3);
+    }
+}